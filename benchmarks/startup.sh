@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time-to-ready and resident memory with and without the fast-startup optimizations.
+#
+# Build first with ./mvnw -Pfast-startup package, then run from the project directory:
+#
+#   benchmarks/startup.sh [runs] [port]
+#
+# Each mode starts the application "runs" times (default 5) on "port" (default 18080). Time-to-ready is measured from
+# process launch until the server answers HTTP, so it covers JVM startup, context refresh and Tomcat. RSS is read from
+# /proc once the server is ready. Medians are reported.
+#
+# Modes:
+#   jar          executable jar, no AOT, no CDS (the default deployment)
+#   extracted    extracted jar, no AOT, no CDS
+#   aot          extracted jar with Spring AOT
+#   aot+cds      extracted jar with Spring AOT and the AppCDS archive
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${2:-18080}"
+JAR="target/app-0.0.1-SNAPSHOT.jar"
+CDS_DIR="target/cds"
+CDS_JAR="$CDS_DIR/app-0.0.1-SNAPSHOT.jar"
+CDS_ARCHIVE="$CDS_DIR/app.jsa"
+
+for file in "$JAR" "$CDS_JAR" "$CDS_ARCHIVE"; do
+    if [[ ! -f "$file" ]]; then
+        echo "Missing $file, build with ./mvnw -Pfast-startup package first." >&2
+        exit 1
+    fi
+done
+
+now_ms() {
+    date +%s%3N
+}
+
+# Prints "<time-to-ready ms> <rss kB>" for one start of the given command.
+measure() {
+    local start pid ready rss
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited before becoming ready: $*" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    ready=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$ready $rss"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    local name="$1" results
+    shift
+    results=$(for _ in $(seq "$RUNS"); do measure "$@"; done)
+    printf "%-10s %14s %10s\n" "$name" \
+        "$(cut -d' ' -f1 <<< "$results" | median)" \
+        "$(( $(cut -d' ' -f2 <<< "$results" | median) / 1024 ))"
+}
+
+echo "Java: $(java -version 2>&1 | head -1), runs per mode: $RUNS"
+printf "%-10s %14s %10s\n" "mode" "ready (ms)" "RSS (MB)"
+run_mode "jar" java -jar "$JAR"
+run_mode "extracted" java -jar "$CDS_JAR"
+run_mode "aot" java -Dspring.aot.enabled=true -jar "$CDS_JAR"
+run_mode "aot+cds" java -XX:SharedArchiveFile="$CDS_ARCHIVE" -Xlog:cds=error -Dspring.aot.enabled=true -jar "$CDS_JAR"
@@ -0,0 +1,102 @@
+package com.athomic.app.config;
+
+import com.athomic.app.dto.response.ErrorResponse;
+import com.athomic.app.exception.InvalidArgumentException;
+import com.athomic.app.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures the throughput of the error path: throwing from {@code depth} frames deep and handling the exception in
+ * {@link GlobalExceptionHandler}. Compares a stack-capturing {@link IllegalArgumentException} with the stackless
+ * {@link InvalidArgumentException} and {@link NotFoundException}, and covers the throttled 500 path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({"20"})
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new ExceptionMetrics(new SimpleMeterRegistry()), 1, Duration.ofHours(1), 1024);
+        // Consume the single logged occurrence so the measured 500s take the suppressed path.
+        internalErrorSuppressedLog();
+    }
+
+    @TearDown
+    public void tearDown() {
+        handler.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> badRequestWithStackTrace() {
+        try {
+            throwAt(depth, () -> new IllegalArgumentException("id must be positive."));
+            return null;
+        } catch (IllegalArgumentException ex) {
+            return handler.handleIllegalArgumentException(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> badRequestStackless() {
+        try {
+            throwAt(depth, () -> new InvalidArgumentException("id must be positive."));
+            return null;
+        } catch (IllegalArgumentException ex) {
+            return handler.handleIllegalArgumentException(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFoundStackless() {
+        try {
+            throwAt(depth, () -> new NotFoundException("Customer not found."));
+            return null;
+        } catch (NotFoundException ex) {
+            return handler.handleNotFoundException(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> internalErrorSuppressedLog() {
+        try {
+            throwAt(depth, () -> new IllegalStateException("warm-up"));
+            return null;
+        } catch (IllegalStateException ex) {
+            return handler.handleException(ex);
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<? extends RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwAt(depth - 1, exception);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.athomic.app.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parse and print paths of the MVC {@link LocalDateTime} formatter registered by {@link WebConfig}
+ * against the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} path it used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateTimeFormatterBenchmark {
+
+    private final WebConfig.LocalDateTimeFormatter formatter = new WebConfig.LocalDateTimeFormatter();
+
+    private String text = "2024-03-15T10:42:07.123";
+    private LocalDateTime value = LocalDateTime.of(2024, 3, 15, 10, 42, 7, 123_000_000);
+
+    @Benchmark
+    public LocalDateTime parse() {
+        return formatter.parse(text, Locale.ROOT);
+    }
+
+    @Benchmark
+    public String print() {
+        return formatter.print(value, Locale.ROOT);
+    }
+
+    @Benchmark
+    public LocalDateTime parseJdk() {
+        return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    @Benchmark
+    public String printJdk() {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+
+}
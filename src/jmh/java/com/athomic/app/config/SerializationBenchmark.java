@@ -0,0 +1,106 @@
+package com.athomic.app.config;
+
+import com.athomic.app.dto.response.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serialization throughput of the previous plain {@link ObjectMapper} setup with the mapper built by
+ * {@link ApplicationConfig}. Run with {@code -prof gc} to see the bytes allocated per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private final ErrorResponse errorResponse = new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+    private final Order order = new Order(42L, "ACME Corp", 1299.5, LocalDateTime.of(2024, 3, 15, 10, 42, 7));
+
+    private ObjectWriter plainWriter;
+    private ObjectWriter optimizedWriter;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper plain = new ObjectMapper();
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        plain.registerModule(javaTimeModule);
+        plainWriter = plain.writer();
+        optimizedWriter = new ApplicationConfig().objectMapper(Jackson2ObjectMapperBuilder.json()).writer();
+    }
+
+    @Benchmark
+    public byte[] errorResponsePlain() throws JsonProcessingException {
+        return plainWriter.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] errorResponseOptimized() throws JsonProcessingException {
+        return optimizedWriter.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] dtoPlain() throws JsonProcessingException {
+        return plainWriter.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] dtoOptimized() throws JsonProcessingException {
+        return optimizedWriter.writeValueAsBytes(order);
+    }
+
+    public static class Order {
+
+        private final long id;
+        private final String customer;
+        private final double total;
+        private final LocalDateTime createdAt;
+
+        public Order(long id, String customer, double total, LocalDateTime createdAt) {
+            this.id = id;
+            this.customer = customer;
+            this.total = total;
+            this.createdAt = createdAt;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.athomic.app.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator used to compare the platform-thread and virtual-thread execution modes.
+ * <p>
+ * Start the application once with {@code spring.threads.virtual.enabled=false} and once with {@code true} (Java 21
+ * build), point this tool at an endpoint that performs blocking JDBC work and compare the reported throughput and
+ * latency percentiles:
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark.main=com.athomic.app.loadtest.ThreadModeLoadTest \
+ *     -Dbenchmark.args="http://localhost:8080/api/orders 400 30 platform"
+ * </pre>
+ * Arguments: target URL, concurrent clients, duration in seconds and a label printed with the results.
+ * </p>
+ */
+public final class ThreadModeLoadTest {
+
+    private ThreadModeLoadTest() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: ThreadModeLoadTest <url> <clients> <seconds> [label]");
+            System.exit(1);
+        }
+        URI target = URI.create(args[0]);
+        int clients = Integer.parseInt(args[1]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[2]));
+        String label = args.length > 3 ? args[3] : "run";
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(30)).GET().build();
+
+        // Warm up the server and the client before measuring.
+        runClients(client, request, clients, Duration.ofSeconds(5), new AtomicLong());
+
+        AtomicLong errors = new AtomicLong();
+        long started = System.nanoTime();
+        long[] latencies = runClients(client, request, clients, duration, errors);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT, "%s: clients=%d requests=%d errors=%d throughput=%.1f req/s "
+                        + "p50=%.2f ms p99=%.2f ms p999=%.2f ms max=%.2f ms%n",
+                label, clients, latencies.length, errors.get(), latencies.length / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999),
+                percentile(latencies, 1.0));
+    }
+
+    private static long[] runClients(HttpClient client, HttpRequest request, int clients, Duration duration,
+                                     AtomicLong errors) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                futures.add(pool.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 500) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                        }
+                        recorder.record(System.nanoTime() - start);
+                    }
+                    return recorder;
+                }));
+            }
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                merged.addAll(future.get());
+            }
+            return merged.toArray();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void addAll(LatencyRecorder other) {
+            for (int i = 0; i < other.size; i++) {
+                record(other.values[i]);
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+}
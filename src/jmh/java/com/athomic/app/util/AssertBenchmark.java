@@ -0,0 +1,45 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the passing path of the {@link Assert} overloads: a constant message, a message built eagerly by string
+ * concatenation and a message built lazily by a capturing {@link java.util.function.Supplier}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertBenchmark {
+
+    private Object value = new Object();
+    private String name = "customerId";
+
+    @Benchmark
+    public void notNullConstantMessage() {
+        Assert.notNull(value, "value cannot be null.");
+    }
+
+    @Benchmark
+    public void notNullConcatenatedMessage() {
+        Assert.notNull(value, name + " cannot be null.");
+    }
+
+    @Benchmark
+    public void notNullSupplierMessage() {
+        Assert.notNull(value, () -> name + " cannot be null.");
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DateUtils#validateTimeInterval(LocalDateTime, LocalDateTime, long, ChronoUnit)} on a valid interval.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private LocalDateTime end = LocalDateTime.of(2024, 1, 20, 12, 30);
+
+    @Benchmark
+    public void validateTimeInterval() {
+        DateUtils.validateTimeInterval(start, end, 31, ChronoUnit.DAYS);
+    }
+
+}
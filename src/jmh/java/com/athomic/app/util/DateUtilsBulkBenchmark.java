@@ -0,0 +1,81 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DateUtils#findInvalidTimeIntervals(long[], long[], long, ChronoUnit)} with validating the same batch
+ * one {@link LocalDateTime} pair at a time through
+ * {@link DateUtils#validateTimeInterval(LocalDateTime, LocalDateTime, long, ChronoUnit)}. About 1% of the intervals
+ * are invalid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBulkBenchmark {
+
+    private static final long MAX_DAYS = 31;
+
+    @Param({"100000"})
+    private int size;
+
+    private long[] starts;
+    private long[] ends;
+    private LocalDateTime[] startTimes;
+    private LocalDateTime[] endTimes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long dayMillis = ChronoUnit.DAYS.getDuration().toMillis();
+        starts = new long[size];
+        ends = new long[size];
+        startTimes = new LocalDateTime[size];
+        endTimes = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = 1_704_067_200_000L + random.nextInt(1_000_000) * 1_000L;
+            long maxMillis = random.nextInt(100) == 0 ? 2 * MAX_DAYS * dayMillis : MAX_DAYS * dayMillis;
+            ends[i] = starts[i] + (long) (random.nextDouble() * maxMillis);
+            startTimes[i] = LocalDateTime.ofEpochSecond(starts[i] / 1000, (int) (starts[i] % 1000) * 1_000_000, ZoneOffset.UTC);
+            endTimes[i] = LocalDateTime.ofEpochSecond(ends[i] / 1000, (int) (ends[i] % 1000) * 1_000_000, ZoneOffset.UTC);
+        }
+    }
+
+    @Benchmark
+    public BitSet bulk() {
+        return DateUtils.findInvalidTimeIntervals(starts, ends, MAX_DAYS, ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public BitSet oneByOne() {
+        BitSet invalid = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            try {
+                DateUtils.validateTimeInterval(startTimes[i], endTimes[i], MAX_DAYS, ChronoUnit.DAYS);
+            } catch (IllegalArgumentException ex) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+}
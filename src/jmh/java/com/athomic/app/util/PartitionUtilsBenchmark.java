@@ -0,0 +1,56 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the copying partition strategies of {@link PartitionUtils} across input sizes and partition counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionUtilsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"4", "64"})
+    private int numPartitions;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<List<Integer>> chunkPartition() {
+        return PartitionUtils.chunkPartition(input, numPartitions);
+    }
+
+    @Benchmark
+    public List<List<Integer>> roundRobinPartition() {
+        return PartitionUtils.roundRobinPartition(input, numPartitions);
+    }
+
+}
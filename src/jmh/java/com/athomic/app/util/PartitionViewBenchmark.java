@@ -0,0 +1,89 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the copying partition strategies of {@link PartitionUtils} with their zero-copy views and the streaming
+ * chunker. Every benchmark partitions the input and visits every element once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionViewBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"16"})
+    private int numPartitions;
+
+    private List<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(i);
+        }
+    }
+
+    @Benchmark
+    public void chunkPartitionCopy(Blackhole blackhole) {
+        consume(PartitionUtils.chunkPartition(input, numPartitions), blackhole);
+    }
+
+    @Benchmark
+    public void chunkPartitionView(Blackhole blackhole) {
+        consume(PartitionUtils.chunkPartitionView(input, numPartitions), blackhole);
+    }
+
+    @Benchmark
+    public void roundRobinPartitionCopy(Blackhole blackhole) {
+        consume(PartitionUtils.roundRobinPartition(input, numPartitions), blackhole);
+    }
+
+    @Benchmark
+    public void roundRobinPartitionView(Blackhole blackhole) {
+        consume(PartitionUtils.roundRobinPartitionView(input, numPartitions), blackhole);
+    }
+
+    @Benchmark
+    public void chunkedIterator(Blackhole blackhole) {
+        Iterator<List<Integer>> chunks = PartitionUtils.chunked(input.iterator(), size / numPartitions);
+        while (chunks.hasNext()) {
+            consumePartition(chunks.next(), blackhole);
+        }
+    }
+
+    private static void consume(List<List<Integer>> partitions, Blackhole blackhole) {
+        for (List<Integer> partition : partitions) {
+            consumePartition(partition, blackhole);
+        }
+    }
+
+    private static void consumePartition(List<Integer> partition, Blackhole blackhole) {
+        for (int i = 0, n = partition.size(); i < n; i++) {
+            blackhole.consume(partition.get(i));
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures {@link SpillingPartitioner} partitioning a generated stream of ids and reading every partition back, on
+ * the heap (threshold above the input size) and spilled to a temporary file. Run with {@code -prof gc} to compare the
+ * heap allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpillingPartitionerBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"16"})
+    private int numPartitions;
+
+    private SpillingPartitioner<Long> heapPartitioner;
+    private SpillingPartitioner<Long> spillingPartitioner;
+
+    @Setup
+    public void setUp() {
+        heapPartitioner = new SpillingPartitioner<>(ElementCodec.longs(), Integer.MAX_VALUE);
+        spillingPartitioner = new SpillingPartitioner<>(ElementCodec.longs(), 0);
+    }
+
+    @Benchmark
+    public void heap(Blackhole blackhole) {
+        run(heapPartitioner, blackhole);
+    }
+
+    @Benchmark
+    public void spilled(Blackhole blackhole) {
+        run(spillingPartitioner, blackhole);
+    }
+
+    private void run(SpillingPartitioner<Long> partitioner, Blackhole blackhole) {
+        Iterator<Long> source = LongStream.range(0, size).boxed().iterator();
+        try (SpillingPartitioner.Partitions<Long> partitions = partitioner.chunkPartition(source, numPartitions)) {
+            for (int i = 0; i < partitions.size(); i++) {
+                Iterator<Long> partition = partitions.iterator(i);
+                while (partition.hasNext()) {
+                    blackhole.consume(partition.next());
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.athomic.app.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link StringUtils#limit(String, int)} on inputs that are kept as-is and on inputs that are truncated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    private String shortText = "short enough";
+    private String longText = "a considerably longer piece of text that does not fit into the configured limit at all";
+    private int maxLength = 32;
+
+    @Benchmark
+    public String limitUnchanged() {
+        return StringUtils.limit(shortText, maxLength);
+    }
+
+    @Benchmark
+    public String limitTruncated() {
+        return StringUtils.limit(longText, maxLength);
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.athomic.app.util.primitive;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive collections with their boxed {@code java.util} counterparts on {@code size} random ids.
+ * <p>
+ * The {@code build*} benchmarks create a presized collection holding every id; run them with {@code -prof gc} and
+ * read {@code gc.alloc.rate.norm} as the memory footprint of the collection. The other benchmarks measure iteration
+ * and lookups on collections built once in {@link #setUp()}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveCollectionsBenchmark {
+
+    private static final Object VALUE = new Object();
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private long[] ids;
+    private long[] probes;
+
+    private LongList longList;
+    private List<Long> arrayList;
+    private LongHashSet longHashSet;
+    private Set<Long> hashSet;
+    private Long2ObjectMap<Object> long2ObjectMap;
+    private Map<Long, Object> hashMap;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ids = random.longs(size, 0, 1L << 40).toArray();
+        probes = new long[size];
+        for (int i = 0; i < size; i++) {
+            probes[i] = random.nextBoolean() ? ids[random.nextInt(size)] : random.nextLong();
+        }
+        longList = buildLongList();
+        arrayList = buildArrayList();
+        longHashSet = buildLongHashSet();
+        hashSet = buildHashSet();
+        long2ObjectMap = buildLong2ObjectMap();
+        hashMap = buildHashMap();
+    }
+
+    @Benchmark
+    public LongList buildLongList() {
+        LongList list = new LongList(size);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Long> buildArrayList() {
+        List<Long> list = new ArrayList<>(size);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LongHashSet buildLongHashSet() {
+        LongHashSet set = new LongHashSet(size);
+        for (long id : ids) {
+            set.add(id);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Set<Long> buildHashSet() {
+        Set<Long> set = new HashSet<>(size * 4 / 3 + 1);
+        for (long id : ids) {
+            set.add(id);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Long2ObjectMap<Object> buildLong2ObjectMap() {
+        Long2ObjectMap<Object> map = new Long2ObjectMap<>(size);
+        for (long id : ids) {
+            map.put(id, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Long, Object> buildHashMap() {
+        Map<Long, Object> map = new HashMap<>(size * 4 / 3 + 1);
+        for (long id : ids) {
+            map.put(id, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public long sumLongList() {
+        long sum = 0;
+        for (int i = 0, n = longList.size(); i < n; i++) {
+            sum += longList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumArrayList() {
+        long sum = 0;
+        for (int i = 0, n = arrayList.size(); i < n; i++) {
+            sum += arrayList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int containsLongHashSet() {
+        int hits = 0;
+        for (long probe : probes) {
+            if (longHashSet.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int containsHashSet() {
+        int hits = 0;
+        for (long probe : probes) {
+            if (hashSet.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int getLong2ObjectMap() {
+        int hits = 0;
+        for (long probe : probes) {
+            if (long2ObjectMap.get(probe) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int getHashMap() {
+        int hits = 0;
+        for (long probe : probes) {
+            if (hashMap.get(probe) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.athomic.app.validation;
+
+import com.athomic.app.exception.ValidationException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a generated {@link Validator} with Hibernate Validator on the same request DTO, for a valid body and for a
+ * body that fails every constraint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    /**
+     * Request DTO carrying both the generated-validator constraints and the equivalent Bean Validation ones.
+     */
+    public static class CreateOrderRequest {
+
+        @HasText
+        @Size(max = 64)
+        @jakarta.validation.constraints.NotBlank
+        @jakarta.validation.constraints.Size(max = 64)
+        private final String customer;
+
+        @NotEmpty
+        @jakarta.validation.constraints.NotEmpty
+        private final List<String> items;
+
+        @Range(min = 1, max = 1000)
+        @jakarta.validation.constraints.Min(1)
+        @jakarta.validation.constraints.Max(1000)
+        private final int quantity;
+
+        @NotNull
+        @jakarta.validation.constraints.NotNull
+        private final String currency;
+
+        public CreateOrderRequest(String customer, List<String> items, int quantity, String currency) {
+            this.customer = customer;
+            this.items = items;
+            this.quantity = quantity;
+            this.currency = currency;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public List<String> getItems() {
+            return items;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    private final CreateOrderRequest valid = new CreateOrderRequest("acme", List.of("sku-1", "sku-2"), 3, "EUR");
+    private final CreateOrderRequest invalid = new CreateOrderRequest(" ", List.of(), 0, null);
+
+    private Validator<CreateOrderRequest> generated;
+    private ValidatorFactory validatorFactory;
+    private jakarta.validation.Validator beanValidator;
+
+    @Setup
+    public void setUp() {
+        generated = Validators.find(CreateOrderRequest.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Violations generatedValid() {
+        Violations violations = new Violations();
+        generated.validate(valid, violations);
+        return violations;
+    }
+
+    @Benchmark
+    public Violations generatedInvalid() {
+        Violations violations = new Violations();
+        generated.validate(invalid, violations);
+        return violations;
+    }
+
+    @Benchmark
+    public Object generatedInvalidThrowing() {
+        try {
+            generated.validate(invalid);
+            return null;
+        } catch (ValidationException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateOrderRequest>> hibernateValid() {
+        return beanValidator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateOrderRequest>> hibernateInvalid() {
+        return beanValidator.validate(invalid);
+    }
+
+}
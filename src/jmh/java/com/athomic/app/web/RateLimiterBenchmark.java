@@ -0,0 +1,86 @@
+package com.athomic.app.web;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a {@link RateLimiter} decision with four threads: all threads hitting one client, threads
+ * spread over many clients, a client that is always rejected, and the full {@link RateLimitInterceptor} path including
+ * key resolution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private RateLimiter unlimited;
+    private RateLimiter exhausted;
+    private RateLimitInterceptor interceptor;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        unlimited = new RateLimiter(1e9, 1_000, CLIENTS * 2);
+        exhausted = new RateLimiter(0.001, 1, CLIENTS * 2);
+        exhausted.tryAcquire("hot");
+        interceptor = new RateLimitInterceptor(unlimited, ClientKeyResolver.remoteAddress());
+        keys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            keys[i] = "client-" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest();
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup
+        public void setUp() {
+            int client = ThreadLocalRandom.current().nextInt(CLIENTS);
+            request.setRemoteAddr("10.0." + (client >> 8) + "." + (client & 0xFF));
+        }
+    }
+
+    @Benchmark
+    public long sharedClient() {
+        return unlimited.tryAcquire("hot");
+    }
+
+    @Benchmark
+    public long manyClients() {
+        return unlimited.tryAcquire(keys[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    @Benchmark
+    public long rejected() {
+        return exhausted.tryAcquire("hot");
+    }
+
+    @Benchmark
+    public boolean interceptor(Request request) {
+        return interceptor.preHandle(request.request, request.response, this);
+    }
+
+}
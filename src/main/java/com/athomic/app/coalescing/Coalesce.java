@@ -0,0 +1,38 @@
+package com.athomic.app.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesces concurrent invocations of the annotated method that have the same key.
+ * <p>
+ * While an invocation is running, further invocations with an equal key wait for it and return its result or throw
+ * its exception, so a burst of identical reads executes once. Nothing is cached: the next invocation after completion
+ * runs again. Applies to synchronous methods of Spring beans called through their proxy.
+ * </p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+    /**
+     * SpEL expression computing the key from the method parameters, e.g. {@code "#id"} or {@code "#p0.customerId"}.
+     * <p>
+     * Defaults to all parameters, as with {@code @Cacheable}. A {@code null} key disables coalescing for that
+     * invocation.
+     * </p>
+     */
+    String key() default "";
+
+    /**
+     * Maximum number of invocations waiting on one in-flight invocation; further ones are rejected with a
+     * {@link com.athomic.app.exception.TooManyRequestsException}. A negative value uses
+     * {@code app.coalesce.max-waiters}.
+     */
+    int maxWaiters() default -1;
+
+}
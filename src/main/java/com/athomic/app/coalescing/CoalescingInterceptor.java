@@ -0,0 +1,95 @@
+package com.athomic.app.coalescing;
+
+import com.athomic.app.util.Assert;
+import com.athomic.app.util.SingleFlight;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Applies {@link Coalesce} to method invocations.
+ * <p>
+ * Each annotated method has its own {@link SingleFlight}, so equal keys of different methods never share a call. Key
+ * expressions are parsed once per method.
+ * </p>
+ */
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final int defaultMaxWaiters;
+    private final ConcurrentMap<Method, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param defaultMaxWaiters the waiter bound of methods that do not set {@link Coalesce#maxWaiters()} (cannot be
+     *                          negative)
+     */
+    public CoalescingInterceptor(int defaultMaxWaiters) {
+        Assert.isTrue(defaultMaxWaiters >= 0, "defaultMaxWaiters cannot be negative.");
+        this.defaultMaxWaiters = defaultMaxWaiters;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Flight flight = flights.get(method);
+        if (flight == null) {
+            flight = flights.computeIfAbsent(method, m -> createFlight(m, invocation.getThis()));
+        }
+        if (flight == null) {
+            return invocation.proceed();
+        }
+        Object key = flight.key(invocation.getArguments());
+        if (key == null) {
+            return invocation.proceed();
+        }
+        return flight.singleFlight.execute(key, () -> proceed(invocation));
+    }
+
+    private Flight createFlight(Method method, Object target) {
+        Method specificMethod = target != null ? AopUtils.getMostSpecificMethod(method, target.getClass()) : method;
+        Coalesce coalesce = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Coalesce.class);
+        if (coalesce == null) {
+            return null;
+        }
+        Expression key = coalesce.key().isEmpty() ? null : PARSER.parseExpression(coalesce.key());
+        int maxWaiters = coalesce.maxWaiters() >= 0 ? coalesce.maxWaiters() : defaultMaxWaiters;
+        return new Flight(specificMethod, key, new SingleFlight<>(maxWaiters));
+    }
+
+    private static Object proceed(MethodInvocation invocation) throws Exception {
+        try {
+            return invocation.proceed();
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new UndeclaredThrowableException(ex);
+        }
+    }
+
+    private record Flight(Method specificMethod, Expression key, SingleFlight<Object, Object> singleFlight) {
+
+        Object key(Object[] arguments) {
+            if (key == null) {
+                return SimpleKeyGenerator.generateKey(arguments);
+            }
+            return key.getValue(new MethodBasedEvaluationContext(null, specificMethod, arguments, PARAMETER_NAMES));
+        }
+    }
+
+}
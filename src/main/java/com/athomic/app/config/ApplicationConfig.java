@@ -1,13 +1,19 @@
 package com.athomic.app.config;
 
+import com.athomic.app.dto.response.ErrorResponse;
+import com.athomic.app.util.IsoDateTimes;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Configuration class for setting up application configs, beans, etc.
@@ -15,22 +21,50 @@ import java.time.format.DateTimeFormatter;
 @Configuration
 public class ApplicationConfig {
 
+    /**
+     * Types whose serializers are resolved at startup instead of on the first request that returns them.
+     */
+    private static final List<Class<?>> PREWARMED_TYPES = List.of(ErrorResponse.class);
+
     /**
      * Bean definition for {@link ObjectMapper}.
      * <p>
-     * This method creates and configures an instance of {@link ObjectMapper} with a custom {@link JavaTimeModule}
-     * that includes a serializer for {@link LocalDateTime}. The serializer formats {@link LocalDateTime} using
-     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     * This method builds the {@link ObjectMapper} from Spring Boot's {@link Jackson2ObjectMapperBuilder}, so the
+     * {@code spring.jackson.*} properties and any {@code Module} beans (including the {@link JavaTimeModule}) still
+     * apply. On top of that it registers:
+     * <ul>
+     *     <li>a serializer and deserializer for {@link LocalDateTime} that use the
+     *     {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format through {@link IsoDateTimes};</li>
+     *     <li>the {@link BlackbirdModule}, which replaces reflective getter/setter/constructor calls with generated
+     *     lambdas;</li>
+     *     <li>a hand-written serializer for {@link ErrorResponse} that reuses the encoded bytes of repeated bodies.</li>
+     * </ul>
+     * Serializers for the DTOs in {@link #PREWARMED_TYPES} are resolved before the mapper is returned.
      * </p>
      *
+     * @param builder the {@link Jackson2ObjectMapperBuilder} configured by Spring Boot
      * @return a configured {@link ObjectMapper} instance
      */
     @Bean
-    public ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        objectMapper.registerModule(javaTimeModule);
+    public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
+        SimpleModule applicationModule = new SimpleModule("ApplicationModule");
+        applicationModule.addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+        applicationModule.addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer());
+        applicationModule.addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+
+        ObjectMapper objectMapper = builder.build();
+        objectMapper.registerModules(new BlackbirdModule(), applicationModule);
+        prewarm(objectMapper);
         return objectMapper;
     }
+
+    private static void prewarm(ObjectMapper objectMapper) {
+        for (Class<?> type : PREWARMED_TYPES) {
+            try {
+                objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+            } catch (JsonMappingException ex) {
+                throw new IllegalStateException("Could not resolve a serializer for " + type.getName() + ".", ex);
+            }
+        }
+    }
 }
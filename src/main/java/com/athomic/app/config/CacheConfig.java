@@ -0,0 +1,95 @@
+package com.athomic.app.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Configuration class for the application caches.
+ * <p>
+ * Backs Spring's {@code @Cacheable} abstraction with Caffeine (W-TinyLFU admission and eviction). Every cache records
+ * hit, miss, eviction and load statistics. Caches listed under {@code app.cache.caches} or refreshed by a
+ * {@link RefreshingCacheLoader} bean are created eagerly with their own settings; any other cache name is created on
+ * first use with {@code app.cache.defaults}.
+ * </p>
+ * <p>
+ * Refreshing needs a loader: {@code app.cache.defaults.refresh-after-write} applies to every cache that has a
+ * {@link RefreshingCacheLoader} and is ignored by the others, while {@code refresh-after-write} set on a named cache
+ * without a loader is a configuration error.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CachingProperties.class)
+public class CacheConfig {
+
+    /**
+     * Bean definition for the Caffeine-backed {@link CacheManager}.
+     *
+     * @param properties the cache settings
+     * @param loaders    the refresh loaders for caches configured with {@code refresh-after-write}
+     * @return a configured {@link CaffeineCacheManager}
+     * @throws IllegalStateException if a named cache sets {@code refresh-after-write} without a matching loader
+     */
+    @Bean
+    public CaffeineCacheManager cacheManager(CachingProperties properties, List<RefreshingCacheLoader<?, ?>> loaders) {
+        Map<String, RefreshingCacheLoader<?, ?>> loadersByCache = loaders.stream()
+                .collect(Collectors.toMap(RefreshingCacheLoader::cacheName, Function.identity()));
+        CachingProperties.Spec defaults = properties.getDefaults();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // Caches created on first use have no loader, so they never refresh
+        cacheManager.setCaffeine(builder(defaults));
+
+        properties.getCaches().forEach((name, spec) -> {
+            RefreshingCacheLoader<?, ?> loader = loadersByCache.get(name);
+            if (spec.getRefreshAfterWrite() != null && loader == null) {
+                throw new IllegalStateException("Cache '" + name + "' sets refresh-after-write but no "
+                        + RefreshingCacheLoader.class.getSimpleName() + " bean is declared for it.");
+            }
+            cacheManager.registerCustomCache(name, build(spec.withDefaults(defaults), loader));
+        });
+        loadersByCache.forEach((name, loader) -> {
+            if (!properties.getCaches().containsKey(name)) {
+                cacheManager.registerCustomCache(name, build(defaults, loader));
+            }
+        });
+        return cacheManager;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> build(CachingProperties.Spec spec, RefreshingCacheLoader<?, ?> loader) {
+        Caffeine<Object, Object> builder = builder(spec);
+        if (spec.getRefreshAfterWrite() == null || loader == null) {
+            return builder.build();
+        }
+        return builder.refreshAfterWrite(spec.getRefreshAfterWrite())
+                .build((RefreshingCacheLoader<Object, Object>) loader);
+    }
+
+    private static Caffeine<Object, Object> builder(CachingProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        return builder;
+    }
+
+}
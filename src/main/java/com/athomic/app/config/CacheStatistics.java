@@ -0,0 +1,47 @@
+package com.athomic.app.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read access to the statistics recorded by the application caches.
+ * <p>
+ * Each {@link CacheStats} snapshot exposes hit and miss counts, the eviction count and the average load penalty (load
+ * latency) of a cache.
+ * </p>
+ * <p>
+ * Load statistics only cover values computed by the cache itself: {@code @Cacheable(sync = true)} methods and
+ * refreshes by a {@link RefreshingCacheLoader}. Without {@code sync = true}, Spring looks the key up and then puts the
+ * method result, which counts a miss but no load.
+ * </p>
+ */
+@Component
+public class CacheStatistics {
+
+    private final CaffeineCacheManager cacheManager;
+
+    public CacheStatistics(CaffeineCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Returns a snapshot of the statistics of every cache, keyed by cache name.
+     *
+     * @return the statistics of every cache, sorted by name
+     */
+    public Map<String, CacheStats> snapshot() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                stats.put(name, cache.getNativeCache().stats());
+            }
+        }
+        return stats;
+    }
+
+}
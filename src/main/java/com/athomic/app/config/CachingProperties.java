@@ -0,0 +1,95 @@
+package com.athomic.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache settings bound from {@code app.cache.*}.
+ * <p>
+ * {@code app.cache.defaults.*} applies to every cache; {@code app.cache.caches.<name>.*} overrides individual settings
+ * for a named cache.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public class CachingProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Spec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Spec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Spec> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * Size and expiration settings of a cache. Unset values are {@code null}.
+     */
+    public static class Spec {
+
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private Duration refreshAfterWrite;
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public void setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+        }
+
+        public Duration getExpireAfterAccess() {
+            return expireAfterAccess;
+        }
+
+        public void setExpireAfterAccess(Duration expireAfterAccess) {
+            this.expireAfterAccess = expireAfterAccess;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+        }
+
+        /**
+         * Returns a copy of this spec where every unset value is taken from {@code defaults}.
+         *
+         * @param defaults the fallback values
+         * @return the merged {@link Spec}
+         */
+        Spec withDefaults(Spec defaults) {
+            Spec merged = new Spec();
+            merged.maximumSize = maximumSize != null ? maximumSize : defaults.maximumSize;
+            merged.expireAfterWrite = expireAfterWrite != null ? expireAfterWrite : defaults.expireAfterWrite;
+            merged.expireAfterAccess = expireAfterAccess != null ? expireAfterAccess : defaults.expireAfterAccess;
+            merged.refreshAfterWrite = refreshAfterWrite != null ? refreshAfterWrite : defaults.refreshAfterWrite;
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.athomic.app.config;
+
+import com.athomic.app.coalescing.Coalesce;
+import com.athomic.app.coalescing.CoalescingInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class for {@link Coalesce} request coalescing.
+ * <p>
+ * The advisor is an infrastructure bean, applied by the same auto-proxy creator as {@code @Cacheable} and
+ * {@code @Transactional}. It is ordered just before them, so coalesced waiters never open a transaction and a
+ * coalesced call still goes through the cache.
+ * </p>
+ */
+@Configuration
+public class CoalescingConfig {
+
+    /**
+     * Bean definition for the advisor applying {@link CoalescingInterceptor} to {@link Coalesce} methods.
+     *
+     * @param maxWaiters the default maximum number of invocations waiting on one in-flight invocation
+     * @return the coalescing {@link Advisor}
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(@Value("${app.coalesce.max-waiters:1000}") int maxWaiters) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesce.class), new CoalescingInterceptor(maxWaiters));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+
+}
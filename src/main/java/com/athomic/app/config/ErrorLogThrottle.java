@@ -0,0 +1,195 @@
+package com.athomic.app.config;
+
+import com.athomic.app.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Deduplicates error logging by fingerprint.
+ * <p>
+ * A fingerprint is the exception type plus the type of its root cause. It is derived without touching the stack trace,
+ * so suppressed occurrences never materialize it. Within each window only the first {@code maxPerWindow} occurrences of
+ * a fingerprint are logged; the rest are counted. The count is reported with the first occurrence logged in a later
+ * window, or by {@link #reportExpired(Reporter)} once the window is over, so the last burst of an outage is reported
+ * too. This keeps an outage that fails every request from turning into a logging storm.
+ * </p>
+ * <p>
+ * At most {@code maxFingerprints} fingerprints are tracked. {@link #reportExpired(Reporter)} evicts the windows that
+ * are over once their count is reported; while the table is full, new fingerprints share one overflow window.
+ * </p>
+ */
+class ErrorLogThrottle {
+
+    /**
+     * Returned by {@link #tryAcquire(Throwable)} when the occurrence must not be logged.
+     */
+    static final long SUPPRESSED = -1L;
+
+    private static final long EVICTED = -2L;
+    private static final int MAX_CAUSE_DEPTH = 32;
+    private static final Fingerprint OVERFLOW = new Fingerprint(Throwable.class, Throwable.class);
+
+    private final int maxPerWindow;
+    private final long windowNanos;
+    private final int maxFingerprints;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Fingerprint, Window> windows = new ConcurrentHashMap<>();
+    private final Window overflow;
+
+    ErrorLogThrottle(int maxPerWindow, Duration window, int maxFingerprints) {
+        this(maxPerWindow, window, maxFingerprints, System::nanoTime);
+    }
+
+    ErrorLogThrottle(int maxPerWindow, Duration window, int maxFingerprints, LongSupplier clock) {
+        Assert.isTrue(maxPerWindow > 0, "maxPerWindow must be greater than 0.");
+        Assert.isTrue(window != null && !window.isNegative() && !window.isZero(), "window must be positive.");
+        Assert.isTrue(maxFingerprints > 0, "maxFingerprints must be greater than 0.");
+        Assert.notNull(clock, "clock cannot be null.");
+        this.maxPerWindow = maxPerWindow;
+        this.windowNanos = window.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.clock = clock;
+        this.overflow = new Window(clock.getAsLong());
+    }
+
+    /**
+     * Records an occurrence of {@code ex} and decides whether it should be logged.
+     *
+     * @param ex the exception about to be logged
+     * @return {@link #SUPPRESSED} if the occurrence must not be logged, otherwise the number of occurrences of the same
+     * fingerprint suppressed since they were last reported
+     */
+    long tryAcquire(Throwable ex) {
+        Fingerprint fingerprint = Fingerprint.of(ex);
+        long now = clock.getAsLong();
+        while (true) {
+            Window window = windows.get(fingerprint);
+            if (window == null) {
+                if (windows.size() >= maxFingerprints) {
+                    window = overflow;
+                } else {
+                    window = windows.computeIfAbsent(fingerprint, key -> new Window(now));
+                }
+            }
+            long result = window.tryAcquire(now);
+            if (result != EVICTED) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Reports the suppressed occurrences of every window that is over and evicts those windows.
+     *
+     * @param reporter receives the fingerprint and the number of suppressed occurrences
+     */
+    void reportExpired(Reporter reporter) {
+        long now = clock.getAsLong();
+        windows.forEach((fingerprint, window) -> {
+            if (window.expire(now, fingerprint, reporter, true)) {
+                windows.remove(fingerprint, window);
+            }
+        });
+        overflow.expire(now, OVERFLOW, reporter, false);
+    }
+
+    /**
+     * Reports the suppressed occurrences of every window, whether it is over or not.
+     *
+     * @param reporter receives the fingerprint and the number of suppressed occurrences
+     */
+    void reportAll(Reporter reporter) {
+        windows.forEach((fingerprint, window) -> window.drain(fingerprint, reporter));
+        overflow.drain(OVERFLOW, reporter);
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    /**
+     * Receives the number of occurrences of a fingerprint that were suppressed and not reported yet.
+     */
+    @FunctionalInterface
+    interface Reporter {
+
+        /**
+         * @param fingerprint a description of the fingerprint, e.g. {@code java.lang.IllegalStateException}
+         * @param suppressed  the number of suppressed occurrences (greater than 0)
+         */
+        void report(String fingerprint, long suppressed);
+    }
+
+    private final class Window {
+
+        private long start;
+        private int logged;
+        private long suppressed;
+        private boolean evicted;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        synchronized long tryAcquire(long now) {
+            if (evicted) {
+                return EVICTED;
+            }
+            if (now - start >= windowNanos) {
+                start = now;
+                logged = 0;
+            }
+            if (logged >= maxPerWindow) {
+                suppressed++;
+                return SUPPRESSED;
+            }
+            logged++;
+            long previouslySuppressed = suppressed;
+            suppressed = 0;
+            return previouslySuppressed;
+        }
+
+        /**
+         * Reports the suppressed count if the window is over, marking it evicted if requested, and returns whether it
+         * was over.
+         */
+        synchronized boolean expire(long now, Fingerprint fingerprint, Reporter reporter, boolean evict) {
+            if (now - start < windowNanos) {
+                return false;
+            }
+            drain(fingerprint, reporter);
+            evicted = evict;
+            return true;
+        }
+
+        synchronized void drain(Fingerprint fingerprint, Reporter reporter) {
+            if (suppressed > 0) {
+                reporter.report(fingerprint.toString(), suppressed);
+                suppressed = 0;
+            }
+        }
+    }
+
+    private record Fingerprint(Class<?> type, Class<?> rootCause) {
+
+        static Fingerprint of(Throwable ex) {
+            Throwable root = ex;
+            for (int depth = 0; depth < MAX_CAUSE_DEPTH && root.getCause() != null && root.getCause() != root; depth++) {
+                root = root.getCause();
+            }
+            return new Fingerprint(ex.getClass(), root.getClass());
+        }
+
+        @Override
+        public String toString() {
+            if (this == OVERFLOW) {
+                return "other errors";
+            }
+            return rootCause == type ? type.getName() : type.getName() + " caused by " + rootCause.getName();
+        }
+    }
+
+}
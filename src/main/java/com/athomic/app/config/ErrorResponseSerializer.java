@@ -0,0 +1,112 @@
+package com.athomic.app.config;
+
+import com.athomic.app.dto.response.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Hand-written serializer for {@link ErrorResponse}.
+ * <p>
+ * Writes the three fields directly with pre-encoded field names instead of going through bean introspection. Error
+ * bodies repeat heavily (the generic 500 body, "not found" messages), so the encoded JSON of the first
+ * {@value #MAX_CACHED_BODIES} distinct bodies is kept and written as pre-serialized bytes afterwards.
+ * </p>
+ * <p>
+ * The cached bytes are the compact output of a default generator, so they are only used when the mapper writes the
+ * same thing: no pretty printer, no escaping beyond the JSON defaults, quoted field names, plain numbers and an
+ * inclusion that keeps {@code null}s. Otherwise the fields are written through the given generator, honouring the
+ * {@code spring.jackson.*} settings, and {@code null} or empty values are left out as the inclusion requires.
+ * </p>
+ */
+class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private static final int MAX_CACHED_BODIES = 256;
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ConcurrentMap<ErrorResponse, SerializableString> cachedBodies = new ConcurrentHashMap<>();
+
+    ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(ErrorResponse.class)
+                .getValueInclusion();
+        boolean includeAll = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+        if (!includeAll || !isDefault(gen)) {
+            writeFields(value, gen, inclusion);
+            return;
+        }
+        SerializableString body = cachedBodies.get(value);
+        if (body == null) {
+            if (cachedBodies.size() >= MAX_CACHED_BODIES) {
+                writeFields(value, gen, inclusion);
+                return;
+            }
+            body = cachedBodies.computeIfAbsent(value, this::encode);
+        }
+        gen.writeRawValue(body);
+    }
+
+    /**
+     * Returns whether {@code gen} produces the same bytes as the generator used to encode the cached bodies.
+     */
+    private static boolean isDefault(JsonGenerator gen) {
+        return gen.getPrettyPrinter() == null
+                && gen.getCharacterEscapes() == null
+                && gen.getHighestEscapedChar() == 0
+                && gen.isEnabled(JsonWriteFeature.QUOTE_FIELD_NAMES.mappedFeature())
+                && !gen.isEnabled(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature())
+                && !gen.isEnabled(JsonWriteFeature.WRITE_NUMBERS_AS_STRINGS.mappedFeature());
+    }
+
+    private SerializableString encode(ErrorResponse value) {
+        StringWriter writer = new StringWriter(64);
+        try (JsonGenerator gen = jsonFactory.createGenerator(writer)) {
+            writeFields(value, gen, JsonInclude.Include.ALWAYS);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not encode error response.", ex);
+        }
+        return new SerializedString(writer.toString());
+    }
+
+    private static void writeFields(ErrorResponse value, JsonGenerator gen, JsonInclude.Include inclusion)
+            throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(value.getStatus());
+        writeString(gen, ERROR, value.getError(), inclusion);
+        writeString(gen, MESSAGE, value.getMessage(), inclusion);
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value,
+                                    JsonInclude.Include inclusion) throws IOException {
+        boolean skip = switch (inclusion) {
+            case NON_NULL, NON_ABSENT -> value == null;
+            case NON_EMPTY, NON_DEFAULT -> value == null || value.isEmpty();
+            default -> false;
+        };
+        if (!skip) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.athomic.app.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counters for the exceptions handled by {@link GlobalExceptionHandler}.
+ * <p>
+ * Publishes {@code app.exceptions.handled} tagged with the HTTP status and the exception type. Counters are resolved
+ * through a {@link ClassValue} per status, so after the first occurrence of an exception type recording is a lookup and
+ * an increment, with no tag or string allocation on the error path.
+ * </p>
+ */
+@Component
+public class ExceptionMetrics {
+
+    static final String METER_NAME = "app.exceptions.handled";
+
+    private final MeterRegistry registry;
+
+    public ExceptionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the recorder for exceptions answered with the given status.
+     * <p>
+     * Recorders should be obtained once and kept in a field.
+     * </p>
+     *
+     * @param status the HTTP status the exceptions are mapped to
+     * @return a {@link Recorder} for that status
+     */
+    public Recorder forStatus(HttpStatus status) {
+        return new Recorder(registry, status);
+    }
+
+    /**
+     * Records exceptions mapped to a single HTTP status.
+     */
+    public static final class Recorder {
+
+        private final ClassValue<Counter> counters;
+
+        private Recorder(MeterRegistry registry, HttpStatus status) {
+            String statusTag = String.valueOf(status.value());
+            this.counters = new ClassValue<>() {
+                @Override
+                protected Counter computeValue(Class<?> type) {
+                    return Counter.builder(METER_NAME)
+                            .description("Exceptions handled by the global exception handler")
+                            .tag("status", statusTag)
+                            .tag("exception", type.getName())
+                            .register(registry);
+                }
+            };
+        }
+
+        /**
+         * Increments the counter of the exception's type.
+         *
+         * @param ex the handled exception
+         */
+        public void record(Throwable ex) {
+            counters.get(ex.getClass()).increment();
+        }
+    }
+
+}
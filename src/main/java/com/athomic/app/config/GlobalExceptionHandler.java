@@ -2,25 +2,84 @@ package com.athomic.app.config;
 
 import com.athomic.app.dto.response.ErrorResponse;
 import com.athomic.app.exception.NotFoundException;
+import com.athomic.app.exception.TooManyRequestsException;
+import com.athomic.app.exception.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
 /**
  * Global exception handler for handling different types of exceptions and returning appropriate error responses.
  * <p>
  * This class uses the {@link ControllerAdvice} annotation to handle exceptions thrown by controllers and return
- * meaningful error responses with appropriate HTTP status codes and messages.
+ * meaningful error responses with appropriate HTTP status codes and messages. Every handled exception is counted
+ * through {@link ExceptionMetrics}.
+ * </p>
+ * <p>
+ * The error path is kept cheap because it becomes the hot path during incidents: responses are reused for repeated
+ * messages or {@code Retry-After} values, and 500s are logged through an {@link ErrorLogThrottle} that logs the first
+ * occurrences of each failure per window. A daemon thread reports how many were suppressed once each window is over,
+ * and closing the handler on shutdown reports the rest.
  * </p>
  */
 @ControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler implements AutoCloseable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private static final ResponseEntity<ErrorResponse> INTERNAL_SERVER_ERROR_RESPONSE = new ResponseEntity<>(
+            new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase()),
+            HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private static final int MAX_CACHED_RETRY_AFTER_SECONDS = 60;
+
+    private final ExceptionMetrics.Recorder notFoundErrors;
+    private final ExceptionMetrics.Recorder badRequestErrors;
+    private final ExceptionMetrics.Recorder tooManyRequestsErrors;
+    private final ExceptionMetrics.Recorder internalErrors;
+    private final ResponseCache notFoundResponses = new ResponseCache(HttpStatus.NOT_FOUND);
+    private final ResponseCache badRequestResponses = new ResponseCache(HttpStatus.BAD_REQUEST);
+    private final List<ResponseEntity<ErrorResponse>> tooManyRequestsResponses = IntStream
+            .rangeClosed(0, MAX_CACHED_RETRY_AFTER_SECONDS)
+            .mapToObj(GlobalExceptionHandler::tooManyRequestsResponse)
+            .toList();
+    private final ErrorLogThrottle errorLogThrottle;
+    private final ScheduledExecutorService suppressionReporter;
+
+    public GlobalExceptionHandler(ExceptionMetrics exceptionMetrics,
+                                  @Value("${app.errors.log.max-per-window:5}") int maxLoggedPerWindow,
+                                  @Value("${app.errors.log.window:1m}") Duration logWindow,
+                                  @Value("${app.errors.log.max-fingerprints:1024}") int maxFingerprints) {
+        this.notFoundErrors = exceptionMetrics.forStatus(HttpStatus.NOT_FOUND);
+        this.badRequestErrors = exceptionMetrics.forStatus(HttpStatus.BAD_REQUEST);
+        this.tooManyRequestsErrors = exceptionMetrics.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        this.internalErrors = exceptionMetrics.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        this.errorLogThrottle = new ErrorLogThrottle(maxLoggedPerWindow, logWindow, maxFingerprints);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("error-log-reporter-");
+        threadFactory.setDaemon(true);
+        this.suppressionReporter = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        long periodNanos = logWindow.toNanos();
+        this.suppressionReporter.scheduleWithFixedDelay(() -> errorLogThrottle.reportExpired(
+                GlobalExceptionHandler::logSuppressed), periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Handles {@link NotFoundException} exceptions.
      * <p>
@@ -33,16 +92,17 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(NotFoundException ex) {
-        ErrorResponse response =
-                new ErrorResponse(HttpStatus.NOT_FOUND.value(), HttpStatus.NOT_FOUND.getReasonPhrase(), ex.getMessage());
-        return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
+        notFoundErrors.record(ex);
+        return notFoundResponses.get(ex.getMessage());
     }
 
     /**
      * Handles {@link IllegalArgumentException} exceptions.
      * <p>
      * Returns a {@link ResponseEntity} with HTTP status 400 (Bad Request) and an error response containing
-     * the exception message.
+     * the exception message. This includes the {@link ValidationException} raised by generated validators, whose
+     * message lists every failed constraint, and the {@link com.athomic.app.exception.InvalidCursorException} raised for
+     * malformed pagination cursors.
      * </p>
      *
      * @param ex the {@link IllegalArgumentException} exception
@@ -50,16 +110,35 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
-        ErrorResponse response =
-                new ErrorResponse(HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST.getReasonPhrase(), ex.getMessage());
-        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+        badRequestErrors.record(ex);
+        return badRequestResponses.get(ex.getMessage());
+    }
+
+    /**
+     * Handles {@link TooManyRequestsException} exceptions.
+     * <p>
+     * Returns a {@link ResponseEntity} with HTTP status 429 (Too Many Requests) and a {@code Retry-After} header
+     * telling the client how many seconds to wait. Rejections are the expected outcome of load shedding, so they are
+     * not logged.
+     * </p>
+     *
+     * @param ex the {@link TooManyRequestsException} exception
+     * @return a {@link ResponseEntity} with an {@link ErrorResponse} and HTTP status 429
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+        tooManyRequestsErrors.record(ex);
+        long retryAfterSeconds = ex.getRetryAfterSeconds();
+        return retryAfterSeconds >= 0 && retryAfterSeconds <= MAX_CACHED_RETRY_AFTER_SECONDS
+                ? tooManyRequestsResponses.get((int) retryAfterSeconds)
+                : tooManyRequestsResponse(retryAfterSeconds);
     }
 
     /**
      * Handles all other exceptions.
      * <p>
-     * Logs the exception and returns a {@link ResponseEntity} with HTTP status 500 (Internal Server Error)
-     * and a generic error response.
+     * Logs the exception (throttled per failure fingerprint) and returns a {@link ResponseEntity} with HTTP status 500
+     * (Internal Server Error) and a generic error response.
      * </p>
      *
      * @param ex the {@link Exception} exception
@@ -67,12 +146,65 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception ex) {
-        LOGGER.error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), ex);
-        ErrorResponse response =
-                new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                        HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
-                        HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
-        return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
+        internalErrors.record(ex);
+        long suppressed = errorLogThrottle.tryAcquire(ex);
+        if (suppressed == 0) {
+            LOGGER.error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), ex);
+        } else if (suppressed > 0) {
+            LOGGER.error("{} ({} similar errors suppressed since the last report)",
+                    HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), suppressed, ex);
+        }
+        return INTERNAL_SERVER_ERROR_RESPONSE;
+    }
+
+    /**
+     * Stops the suppression reporter and reports the occurrences suppressed so far.
+     */
+    @Override
+    public void close() {
+        suppressionReporter.shutdownNow();
+        errorLogThrottle.reportAll(GlobalExceptionHandler::logSuppressed);
+    }
+
+    private static void logSuppressed(String fingerprint, long suppressed) {
+        LOGGER.error("{} similar errors suppressed since the last report: {}", suppressed, fingerprint);
+    }
+
+    private static ResponseEntity<ErrorResponse> tooManyRequestsResponse(long retryAfterSeconds) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(new ErrorResponse(status.value(), status.getReasonPhrase(), "Too many requests."));
+    }
+
+    /**
+     * Reuses the immutable responses of one status for repeated messages.
+     * <p>
+     * Holds at most {@value #MAX_CACHED_MESSAGES} messages, so messages that embed request data (ids, values) stop
+     * being cached once the bound is reached instead of growing the cache.
+     * </p>
+     */
+    static final class ResponseCache {
+
+        static final int MAX_CACHED_MESSAGES = 256;
+
+        private final HttpStatus status;
+        private final ConcurrentMap<String, ResponseEntity<ErrorResponse>> responses = new ConcurrentHashMap<>();
+
+        ResponseCache(HttpStatus status) {
+            this.status = status;
+        }
+
+        ResponseEntity<ErrorResponse> get(String message) {
+            ResponseEntity<ErrorResponse> response = message != null ? responses.get(message) : null;
+            if (response == null) {
+                response = new ResponseEntity<>(new ErrorResponse(status.value(), status.getReasonPhrase(), message), status);
+                if (message != null && responses.size() < MAX_CACHED_MESSAGES) {
+                    responses.putIfAbsent(message, response);
+                }
+            }
+            return response;
+        }
     }
 
 }
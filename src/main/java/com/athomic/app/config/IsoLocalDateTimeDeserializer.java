@@ -0,0 +1,57 @@
+package com.athomic.app.config;
+
+import com.athomic.app.util.IsoDateTimes;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * Deserializes {@link LocalDateTime} values with {@link IsoDateTimes#parse(CharSequence)}.
+ * <p>
+ * Anything that is not a plain ISO local date-time string (arrays, numbers, empty strings, UTC strings ending in
+ * {@code Z}, invalid text) is handed to the {@link LocalDateTimeDeserializer} of the Java time module, so coercion
+ * rules and error messages stay the same. Properties carrying a {@code @JsonFormat} pattern, shape or leniency are
+ * deserialized by that module entirely.
+ * </p>
+ */
+class IsoLocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+    IsoLocalDateTimeDeserializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(context, property, handledType());
+        if (format.hasPattern() || format.hasLenient()
+                || (format.hasShape() && format.getShape() != JsonFormat.Shape.STRING)) {
+            return LocalDateTimeDeserializer.INSTANCE.createContextual(context, property);
+        }
+        return this;
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                return IsoDateTimes.parse(parser.getText());
+            } catch (DateTimeException ex) {
+                // fall through to the module deserializer, which reports the error in its usual form
+            }
+        }
+        return LocalDateTimeDeserializer.INSTANCE.deserialize(parser, context);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.athomic.app.config;
+
+import com.athomic.app.util.IsoDateTimes;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializes {@link LocalDateTime} values as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} strings.
+ * <p>
+ * The text is written into a {@value IsoDateTimes#MAX_LENGTH}-char array with
+ * {@link IsoDateTimes#format(LocalDateTime, char[], int)} and handed to the generator as characters, so the only
+ * allocation per value is that array; no {@link StringBuilder} or intermediate {@link String} is created.
+ * </p>
+ * <p>
+ * Properties carrying a {@code @JsonFormat} pattern or non-string shape, and mappers writing dates as timestamps, are
+ * handled by the {@link LocalDateTimeSerializer} of the Java time module.
+ * </p>
+ */
+class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> implements ContextualSerializer {
+
+    IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+        if (format.hasPattern() || (format.hasShape() && format.getShape() != JsonFormat.Shape.STRING)) {
+            return LocalDateTimeSerializer.INSTANCE.createContextual(provider, property);
+        }
+        return this;
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            LocalDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+            return;
+        }
+        char[] buffer = new char[IsoDateTimes.MAX_LENGTH];
+        gen.writeString(buffer, 0, IsoDateTimes.format(value, buffer, 0));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.athomic.app.config;
+
+import com.athomic.app.job.JobEngines;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Configuration class for the background job engines.
+ * <p>
+ * Exposes a {@link JobEngines} factory configured from {@code app.jobs.*}. Worker threads are named
+ * {@code job-<engine>-<n>}; they are virtual threads with {@code app.jobs.threads=virtual}, or with {@code auto} when
+ * {@code spring.threads.virtual.enabled=true}, which suits handlers that mostly wait on I/O. The factory is closed with
+ * the application context, which drains the engines it created.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(JobProperties.class)
+public class JobConfig {
+
+    /**
+     * Bean definition for the {@link JobEngines} factory.
+     *
+     * @param properties  the job settings
+     * @param environment the environment, consulted for the virtual-thread mode
+     * @param registry    the registry the engine metrics are published to
+     * @return a configured {@link JobEngines}
+     */
+    @Bean
+    public JobEngines jobEngines(JobProperties properties, Environment environment, MeterRegistry registry) {
+        boolean virtual = switch (properties.getThreads()) {
+            case AUTO -> Threading.VIRTUAL.isActive(environment);
+            case PLATFORM -> false;
+            case VIRTUAL -> true;
+        };
+        return new JobEngines(properties::options,
+                name -> virtual
+                        ? new VirtualThreadTaskExecutor("job-" + name + "-").getVirtualThreadFactory()
+                        : new CustomizableThreadFactory("job-" + name + "-"),
+                registry);
+    }
+
+}
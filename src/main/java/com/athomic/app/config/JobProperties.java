@@ -0,0 +1,201 @@
+package com.athomic.app.config;
+
+import com.athomic.app.job.JobEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Job engine settings bound from {@code app.jobs.*}.
+ * <p>
+ * {@code app.jobs.defaults.*} applies to every engine; {@code app.jobs.engines.<name>.*} overrides individual settings
+ * for a named engine. {@code app.jobs.threads} selects platform or virtual worker threads for all engines.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "app.jobs")
+public class JobProperties {
+
+    /**
+     * Kind of worker threads.
+     */
+    public enum Threads {
+        /**
+         * Virtual threads when {@code spring.threads.virtual.enabled=true}, platform threads otherwise.
+         */
+        AUTO,
+        PLATFORM,
+        /**
+         * Virtual threads; requires Java 21.
+         */
+        VIRTUAL
+    }
+
+    private Threads threads = Threads.AUTO;
+    private Spec defaults = Spec.builtIn();
+    private Map<String, Spec> engines = new LinkedHashMap<>();
+
+    public Threads getThreads() {
+        return threads;
+    }
+
+    public void setThreads(Threads threads) {
+        this.threads = threads;
+    }
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Spec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Spec> getEngines() {
+        return engines;
+    }
+
+    public void setEngines(Map<String, Spec> engines) {
+        this.engines = engines;
+    }
+
+    /**
+     * Returns the options of the named engine: its own settings, completed by the defaults.
+     *
+     * @param name the engine name
+     * @return the {@link JobEngine.Options} of the engine
+     */
+    JobEngine.Options options(String name) {
+        Spec spec = engines.getOrDefault(name, new Spec()).withDefaults(defaults).withDefaults(Spec.builtIn());
+        return new JobEngine.Options(spec.lanes, spec.queueCapacity, spec.overflow, spec.offerTimeout,
+                spec.maxBatchSize, spec.maxAttempts, spec.initialBackoff, spec.maxBackoff, spec.shutdownTimeout);
+    }
+
+    /**
+     * Queue, batching and retry settings of a job engine. Unset values are {@code null}.
+     */
+    public static class Spec {
+
+        private Integer lanes;
+        private Integer queueCapacity;
+        private JobEngine.Overflow overflow;
+        private Duration offerTimeout;
+        private Integer maxBatchSize;
+        private Integer maxAttempts;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private Duration shutdownTimeout;
+
+        public Integer getLanes() {
+            return lanes;
+        }
+
+        public void setLanes(Integer lanes) {
+            this.lanes = lanes;
+        }
+
+        public Integer getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(Integer queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public JobEngine.Overflow getOverflow() {
+            return overflow;
+        }
+
+        public void setOverflow(JobEngine.Overflow overflow) {
+            this.overflow = overflow;
+        }
+
+        public Duration getOfferTimeout() {
+            return offerTimeout;
+        }
+
+        public void setOfferTimeout(Duration offerTimeout) {
+            this.offerTimeout = offerTimeout;
+        }
+
+        public Integer getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Integer getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+
+        /**
+         * Returns the settings used when neither the engine nor {@code app.jobs.defaults} set a value.
+         *
+         * @return a fully populated {@link Spec}
+         */
+        static Spec builtIn() {
+            Spec spec = new Spec();
+            spec.lanes = Runtime.getRuntime().availableProcessors() * 2;
+            spec.queueCapacity = 1000;
+            spec.overflow = JobEngine.Overflow.REJECT;
+            spec.offerTimeout = Duration.ofSeconds(1);
+            spec.maxBatchSize = 1;
+            spec.maxAttempts = 3;
+            spec.initialBackoff = Duration.ofMillis(200);
+            spec.maxBackoff = Duration.ofSeconds(10);
+            spec.shutdownTimeout = Duration.ofSeconds(30);
+            return spec;
+        }
+
+        /**
+         * Returns a copy of this spec where every unset value is taken from {@code defaults}.
+         *
+         * @param defaults the fallback values
+         * @return the merged {@link Spec}
+         */
+        Spec withDefaults(Spec defaults) {
+            Spec merged = new Spec();
+            merged.lanes = lanes != null ? lanes : defaults.lanes;
+            merged.queueCapacity = queueCapacity != null ? queueCapacity : defaults.queueCapacity;
+            merged.overflow = overflow != null ? overflow : defaults.overflow;
+            merged.offerTimeout = offerTimeout != null ? offerTimeout : defaults.offerTimeout;
+            merged.maxBatchSize = maxBatchSize != null ? maxBatchSize : defaults.maxBatchSize;
+            merged.maxAttempts = maxAttempts != null ? maxAttempts : defaults.maxAttempts;
+            merged.initialBackoff = initialBackoff != null ? initialBackoff : defaults.initialBackoff;
+            merged.maxBackoff = maxBackoff != null ? maxBackoff : defaults.maxBackoff;
+            merged.shutdownTimeout = shutdownTimeout != null ? shutdownTimeout : defaults.shutdownTimeout;
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.athomic.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.PatternMatchUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerAdapter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+/**
+ * Decides which beans stay eager when lazy initialization is enabled.
+ * <p>
+ * Patterns are simple wildcards ({@code *}) matched against the bean name and the bean class name. A bean is made lazy
+ * only if it matches an {@code include} pattern (every bean when there are none) and no {@code exclude} pattern. The
+ * request hot path always stays eager: controllers, controller advice, handler mappings and adapters, message
+ * converters and the {@link ObjectMapper}, so the first request does not pay for their creation.
+ * </p>
+ */
+class LazyInitializationPolicy implements LazyInitializationExcludeFilter {
+
+    private static final List<Class<?>> HOT_PATH_TYPES = List.of(
+            HandlerMapping.class, HandlerAdapter.class, HttpMessageConverter.class, ObjectMapper.class);
+
+    private final String[] include;
+    private final String[] exclude;
+
+    LazyInitializationPolicy(String[] include, String[] exclude) {
+        this.include = include;
+        this.exclude = exclude;
+    }
+
+    @Override
+    public boolean isExcluded(String beanName, BeanDefinition beanDefinition, Class<?> beanType) {
+        String className = beanType != null ? beanType.getName() : beanDefinition.getBeanClassName();
+        if (matches(exclude, beanName, className) || isHotPath(beanType)) {
+            return true;
+        }
+        return include.length > 0 && !matches(include, beanName, className);
+    }
+
+    private static boolean matches(String[] patterns, String beanName, String className) {
+        return PatternMatchUtils.simpleMatch(patterns, beanName)
+                || (className != null && PatternMatchUtils.simpleMatch(patterns, className));
+    }
+
+    private static boolean isHotPath(Class<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        if (AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || AnnotatedElementUtils.hasAnnotation(beanType, ControllerAdvice.class)) {
+            return true;
+        }
+        for (Class<?> type : HOT_PATH_TYPES) {
+            if (type.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
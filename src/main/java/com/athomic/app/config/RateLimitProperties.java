@@ -0,0 +1,74 @@
+package com.athomic.app.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limiting settings bound from {@code app.rate-limit.*}.
+ * <p>
+ * Rate limiting is off unless {@code app.rate-limit.enabled} is {@code true}. Each client, identified by its remote
+ * address or by the application's {@code ClientKeyResolver} bean, may send {@code burst} requests at once and
+ * {@code requests-per-second} on average.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled;
+    private double requestsPerSecond = 50;
+    private int burst = 100;
+    private int maxClients = 100_000;
+    private List<String> pathPatterns = new ArrayList<>(List.of("/**"));
+    private List<String> excludePathPatterns = new ArrayList<>(List.of("/actuator/**"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public List<String> getPathPatterns() {
+        return pathPatterns;
+    }
+
+    public void setPathPatterns(List<String> pathPatterns) {
+        this.pathPatterns = pathPatterns;
+    }
+
+    public List<String> getExcludePathPatterns() {
+        return excludePathPatterns;
+    }
+
+    public void setExcludePathPatterns(List<String> excludePathPatterns) {
+        this.excludePathPatterns = excludePathPatterns;
+    }
+
+}
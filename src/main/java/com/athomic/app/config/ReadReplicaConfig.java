@@ -0,0 +1,137 @@
+package com.athomic.app.config;
+
+import com.athomic.app.datasource.ReadWriteRoutingDataSource;
+import com.athomic.app.web.ClientKeyResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Configuration class for routing read-only transactions to read replicas.
+ * <p>
+ * Active with {@code app.datasource.read-replicas.enabled=true}. The primary pool is built from
+ * {@code spring.datasource.*} as Spring Boot would; each URL in {@code app.datasource.read-replicas.urls} gets its own
+ * read-only Hikari pool. The application {@link DataSource} is a {@link LazyConnectionDataSourceProxy} over a
+ * {@link ReadWriteRoutingDataSource}, so JPA and JDBC code keep using a single data source. Read-your-writes
+ * stickiness is tracked per client, identified like the rate limiter does: by the {@link ClientKeyResolver} bean, or
+ * else by the remote address.
+ * </p>
+ * <p>
+ * Replica pools are not beans, so they are configured here the way Boot configures the primary pool: they are bound
+ * from {@code spring.datasource.hikari.*} (e.g. {@code max-lifetime}) and then {@code app.datasource.read-replicas.hikari.*},
+ * publish the {@code hikaricp.*} meters tagged with their pool name, and get the same connection guard as the
+ * primary pool in virtual-thread mode.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    /**
+     * Bean definition for the primary connection pool.
+     *
+     * @param properties the {@code spring.datasource.*} settings
+     * @return the primary {@link HikariDataSource}, also configured from {@code spring.datasource.hikari.*}
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Bean definition for the {@link ReadWriteRoutingDataSource}, which owns the replica pools.
+     *
+     * @param primary              the primary data source
+     * @param dataSourceProperties the {@code spring.datasource.*} settings, used for the replica driver and credentials
+     * @param properties           the replica settings
+     * @param clientKeyResolver    the application {@link ClientKeyResolver}, if any; clients are otherwise keyed by
+     *                             remote address
+     * @param meterRegistry        the {@link MeterRegistry} for the replica pool meters, if any
+     * @param environment          the environment the replica pools are bound from
+     * @param acquireTimeout       the maximum time a caller waits for a connection permit in virtual-thread mode
+     * @return a configured {@link ReadWriteRoutingDataSource}
+     */
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            DataSourceProperties dataSourceProperties,
+            ReadReplicaProperties properties,
+            ObjectProvider<ClientKeyResolver> clientKeyResolver,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment,
+            @Value("${app.datasource.connection-guard.acquire-timeout:30s}") Duration acquireTimeout) {
+        Binder binder = Binder.get(environment);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        boolean guarded = Threading.VIRTUAL.isActive(environment);
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : properties.getUrls()) {
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            binder.bind("app.datasource.read-replicas.hikari", Bindable.ofInstance(replica));
+            // The replica's identity and size always come from the replica settings
+            replica.setJdbcUrl(url);
+            replica.setUsername(properties.getUsername() != null ? properties.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(properties.getPassword() != null ? properties.getPassword() : dataSourceProperties.determinePassword());
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            if (registry != null) {
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            replicas.add(guarded ? VirtualThreadConfig.guard(replica, acquireTimeout) : replica);
+        }
+        ClientKeyResolver resolver = clientKeyResolver.getIfAvailable(ClientKeyResolver::remoteAddress);
+        return new ReadWriteRoutingDataSource(primary, replicas, properties.getSelection(),
+                properties.getStickinessWindow(), properties.getMaxTrackedClients(), currentClient(resolver));
+    }
+
+    /**
+     * Bean definition for the application {@link DataSource}.
+     *
+     * @param routingDataSource the {@link ReadWriteRoutingDataSource}
+     * @return a {@link LazyConnectionDataSourceProxy} that routes once the transaction's read-only flag is known
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static Supplier<String> currentClient(ClientKeyResolver resolver) {
+        return () -> {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            return attributes instanceof ServletRequestAttributes servletAttributes
+                    ? resolver.resolve(servletAttributes.getRequest())
+                    : null;
+        };
+    }
+
+}
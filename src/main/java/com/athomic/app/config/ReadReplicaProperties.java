@@ -0,0 +1,94 @@
+package com.athomic.app.config;
+
+import com.athomic.app.datasource.ReadWriteRoutingDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings bound from {@code app.datasource.read-replicas.*}.
+ * <p>
+ * Each URL in {@code urls} gets its own Hikari pool of {@code maximum-pool-size} connections. Credentials default to
+ * those of {@code spring.datasource}; other pool settings come from {@code spring.datasource.hikari.*}, overridden by
+ * {@code app.datasource.read-replicas.hikari.*}.
+ * </p>
+ */
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled;
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private ReadWriteRoutingDataSource.Selection selection = ReadWriteRoutingDataSource.Selection.ROUND_ROBIN;
+    private Duration stickinessWindow = Duration.ofSeconds(5);
+    private int maxTrackedClients = 100_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public ReadWriteRoutingDataSource.Selection getSelection() {
+        return selection;
+    }
+
+    public void setSelection(ReadWriteRoutingDataSource.Selection selection) {
+        this.selection = selection;
+    }
+
+    public Duration getStickinessWindow() {
+        return stickinessWindow;
+    }
+
+    public void setStickinessWindow(Duration stickinessWindow) {
+        this.stickinessWindow = stickinessWindow;
+    }
+
+    public int getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(int maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.athomic.app.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * Loader used to refresh the entries of a named cache ahead of expiry.
+ * <p>
+ * Declare one bean per cache configured with {@code app.cache.caches.<name>.refresh-after-write}. Once an entry is
+ * older than the refresh interval, the next read still returns the current value while {@link #load(Object)} runs in
+ * the background, so hot entries are replaced without a latency spike.
+ * </p>
+ *
+ * @param <K> the key type used by the cache (the key generated for {@code @Cacheable})
+ * @param <V> the value type
+ */
+public interface RefreshingCacheLoader<K, V> extends CacheLoader<K, V> {
+
+    /**
+     * Returns the name of the cache this loader refreshes.
+     *
+     * @return the cache name
+     */
+    String cacheName();
+
+}
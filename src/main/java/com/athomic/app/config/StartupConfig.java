@@ -0,0 +1,87 @@
+package com.athomic.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration class for startup analysis, selective lazy initialization and warm-up.
+ * <p>
+ * With {@code app.lazy-init.enabled=true}, beans matching {@code app.lazy-init.include} (all beans if empty) and not
+ * matching {@code app.lazy-init.exclude} are created on first use instead of at startup; see
+ * {@link LazyInitializationPolicy} for the beans that always stay eager. Once the application is ready, the slowest
+ * beans and phases are logged by {@link StartupReport}; before that, {@link WarmUpRunner} exercises the JSON and
+ * formatting paths.
+ * </p>
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Bean definition for the post-processor that marks bean definitions lazy.
+     * <p>
+     * Static so that it does not create this configuration class while bean definitions are still being processed.
+     * </p>
+     *
+     * @return a {@link LazyInitializationBeanFactoryPostProcessor}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.lazy-init.enabled", havingValue = "true")
+    public static LazyInitializationBeanFactoryPostProcessor lazyInitializationBeanFactoryPostProcessor() {
+        return new LazyInitializationBeanFactoryPostProcessor();
+    }
+
+    /**
+     * Bean definition for the allowlist and denylist of lazy beans.
+     * <p>
+     * Read straight from the {@link Environment}, because it is needed before configuration properties are bound.
+     * </p>
+     *
+     * @param environment the application environment
+     * @return the {@link LazyInitializationExcludeFilter} applying {@code app.lazy-init.include} and
+     * {@code app.lazy-init.exclude}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.lazy-init.enabled", havingValue = "true")
+    public static LazyInitializationExcludeFilter lazyInitializationPolicy(Environment environment) {
+        return new LazyInitializationPolicy(
+                environment.getProperty("app.lazy-init.include", String[].class, new String[0]),
+                environment.getProperty("app.lazy-init.exclude", String[].class, new String[0]));
+    }
+
+    /**
+     * Bean definition for the startup report logged when the application is ready.
+     *
+     * @param top the number of beans and phases listed
+     * @return a {@link StartupReport}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.startup.report.enabled", havingValue = "true", matchIfMissing = true)
+    StartupReport startupReport(@Value("${app.startup.report.top:20}") int top) {
+        return new StartupReport(top);
+    }
+
+    /**
+     * Bean definition for the warm-up run before the application reports ready.
+     *
+     * @param objectMapper      the application {@link ObjectMapper}
+     * @param conversionService the conversion service used by MVC data binding
+     * @param iterations        the number of warm-up iterations
+     * @return a {@link WarmUpRunner}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+    WarmUpRunner warmUpRunner(ObjectMapper objectMapper,
+                              @Qualifier("mvcConversionService") ConversionService conversionService,
+                              @Value("${app.warm-up.iterations:1000}") int iterations) {
+        return new WarmUpRunner(objectMapper, conversionService, iterations);
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.athomic.app.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Logs the slowest beans and startup phases once the application is ready.
+ * <p>
+ * Reads the steps recorded by a {@link BufferingApplicationStartup}. Bean instantiation steps nest (creating a bean
+ * creates its dependencies), so beans are ranked by self time: their duration minus the duration of the steps nested in
+ * them. Phases are ranked by total duration. The raw timeline is also served by {@code /actuator/startup}.
+ * </p>
+ */
+class StartupReport implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupReport.class);
+
+    private static final String BEAN_INSTANTIATION_STEP = "spring.beans.instantiate";
+
+    private final int top;
+
+    StartupReport(int top) {
+        this.top = top;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ApplicationStartup applicationStartup = event.getApplicationContext().getApplicationStartup();
+        if (!LOGGER.isInfoEnabled() || !(applicationStartup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        LOGGER.info(report(buffering.getBufferedTimeline(), event.getTimeTaken()));
+    }
+
+    String report(StartupTimeline timeline, Duration timeTaken) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        Map<Long, Long> nestedNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                nestedNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        List<Entry> beans = new ArrayList<>();
+        Map<String, Long> phases = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            long nanos = event.getDuration().toNanos();
+            if (BEAN_INSTANTIATION_STEP.equals(step.getName())) {
+                long selfNanos = nanos - nestedNanos.getOrDefault(step.getId(), 0L);
+                beans.add(new Entry(beanName(step), selfNanos, nanos));
+            } else {
+                phases.merge(step.getName(), nanos, Long::sum);
+            }
+        }
+        beans.sort(Comparator.comparingLong(Entry::selfNanos).reversed());
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Startup report: ready in %d ms, %d beans instantiated, %d steps recorded%n",
+                timeTaken != null ? timeTaken.toMillis() : -1, beans.size(), events.size()));
+        report.append(String.format(Locale.ROOT, "Slowest beans (self / total ms):%n"));
+        for (Entry bean : beans.subList(0, Math.min(top, beans.size()))) {
+            report.append(String.format(Locale.ROOT, "  %9.1f / %9.1f  %s%n",
+                    millis(bean.selfNanos()), millis(bean.totalNanos()), bean.name()));
+        }
+        report.append(String.format(Locale.ROOT, "Slowest phases (total ms):%n"));
+        phases.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .forEach(phase -> report.append(String.format(Locale.ROOT, "  %9.1f  %s%n",
+                        millis(phase.getValue()), phase.getKey())));
+        return report.toString().stripTrailing();
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "(unnamed)";
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Entry(String name, long selfNanos, long totalNanos) {
+    }
+
+}
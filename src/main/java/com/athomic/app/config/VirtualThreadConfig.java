@@ -0,0 +1,61 @@
+package com.athomic.app.config;
+
+import com.athomic.app.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.time.Duration;
+
+/**
+ * Configuration class for the virtual-thread execution mode.
+ * <p>
+ * Setting {@code spring.threads.virtual.enabled=true} (Java 21 only) makes Spring Boot run Tomcat request handling and
+ * the {@code applicationTaskExecutor} behind {@code @Async} on virtual threads. This class enables {@code @Async} and,
+ * in virtual-thread mode only, wraps the Hikari {@link javax.sql.DataSource} in a
+ * {@link ConnectionLimitingDataSource} sized to the pool, so blocked requests wait on a semaphore rather than piling
+ * up inside the connection pool.
+ * </p>
+ */
+@Configuration
+@EnableAsync
+public class VirtualThreadConfig {
+
+    /**
+     * Bean definition for the connection guard applied to {@link HikariDataSource} beans in virtual-thread mode.
+     *
+     * @param acquireTimeout the maximum time a caller waits for a connection permit
+     * @return a {@link BeanPostProcessor} decorating every {@link HikariDataSource}
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public static BeanPostProcessor connectionGuardPostProcessor(
+            @Value("${app.datasource.connection-guard.acquire-timeout:30s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return guard(hikari, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Caps the connection requests to {@code hikari} at its pool size; also used for pools that are not beans.
+     *
+     * @param hikari         the pool to guard
+     * @param acquireTimeout the maximum time a caller waits for a connection permit
+     * @return a {@link ConnectionLimitingDataSource} over {@code hikari}
+     */
+    static ConnectionLimitingDataSource guard(HikariDataSource hikari, Duration acquireTimeout) {
+        return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+    }
+
+}
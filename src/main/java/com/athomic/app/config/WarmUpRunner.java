@@ -0,0 +1,63 @@
+package com.athomic.app.config;
+
+import com.athomic.app.dto.response.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exercises the JSON and formatting paths before the application reports ready.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, so it completes before the {@code ApplicationReadyEvent} and the readiness
+ * state switching to accepting traffic. Each iteration writes and reads a representative DTO and an
+ * {@link ErrorResponse} through the application {@link ObjectMapper} and converts a {@link LocalDateTime} in both
+ * directions through the MVC {@link ConversionService}. This loads the classes involved, resolves Jackson's serializers
+ * and deserializers and gives the JIT compiler a first profile, so early requests do not pay for it.
+ * </p>
+ */
+class WarmUpRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private final ObjectMapper objectMapper;
+    private final ConversionService conversionService;
+    private final int iterations;
+
+    WarmUpRunner(ObjectMapper objectMapper, ConversionService conversionService, int iterations) {
+        this.objectMapper = objectMapper;
+        this.conversionService = conversionService;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.of(2024, 3, 15, 10, 42, 7, 123_000_000);
+        Sample sample = new Sample(1L, "warm-up", now, List.of("a", "b", "c"));
+        ErrorResponse error = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "warm-up");
+        for (int i = 0; i < iterations; i++) {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(sample), Sample.class);
+            objectMapper.readValue(objectMapper.writeValueAsBytes(error), ErrorResponse.class);
+            String text = conversionService.convert(now.plusSeconds(i), String.class);
+            conversionService.convert(text, LocalDateTime.class);
+        }
+        LOGGER.info("Warm-up completed {} iterations in {} ms", iterations,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Shape of a typical response body: an id, text, a timestamp and a collection.
+     */
+    record Sample(long id, String name, LocalDateTime createdAt, List<String> tags) {
+    }
+
+}
@@ -1,28 +1,73 @@
 package com.athomic.app.config;
 
+import com.athomic.app.util.IsoDateTimes;
+import com.athomic.app.web.ClientKeyResolver;
+import com.athomic.app.web.FastEtagHeaderFilter;
+import com.athomic.app.web.HandlerMetricsInterceptor;
+import com.athomic.app.web.RateLimitInterceptor;
+import com.athomic.app.web.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.format.Formatter;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Locale;
 
 /**
  * Configuration class for setting up web-related configurations including CORS and formatters.
  * <p>
  * This class implements {@link WebMvcConfigurer} to customize web-related settings for the application.
- * It configures CORS settings to allow requests from any origin and sets up a custom formatter for {@link LocalDateTime}.
+ * It configures CORS settings to allow requests from any origin, sets up a custom formatter for {@link LocalDateTime}
+ * makes the JSON message converters use the application {@link ObjectMapper}, registers an ETag filter for
+ * conditional GETs, the request latency timers and, when enabled, a per-client rate limiter.
  * </p>
  */
 @Configuration
 @EnableWebMvc
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+    private final Duration asyncRequestTimeout;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectProvider<ClientKeyResolver> clientKeyResolver;
+    private final HandlerMetricsInterceptor handlerMetricsInterceptor;
+
+    public WebConfig(ObjectMapper objectMapper,
+                     @Qualifier("applicationTaskExecutor") AsyncTaskExecutor applicationTaskExecutor,
+                     @Value("${app.web.async-request-timeout:30m}") Duration asyncRequestTimeout,
+                     RateLimitProperties rateLimitProperties,
+                     ObjectProvider<ClientKeyResolver> clientKeyResolver,
+                     HandlerMetricsInterceptor handlerMetricsInterceptor) {
+        this.objectMapper = objectMapper;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.asyncRequestTimeout = asyncRequestTimeout;
+        this.rateLimitProperties = rateLimitProperties;
+        this.clientKeyResolver = clientKeyResolver;
+        this.handlerMetricsInterceptor = handlerMetricsInterceptor;
+    }
+
     /**
      * Configures CORS mappings for the application.
      * <p>
@@ -41,6 +86,74 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true);
     }
 
+    /**
+     * Registers the {@link FastEtagHeaderFilter} for conditional GET support.
+     * <p>
+     * The filter answers {@code If-None-Match} with 304 for unchanged bodies. ETags are weak by default: Tomcat does
+     * not compress responses carrying a strong ETag, and {@code If-None-Match} uses weak comparison anyway, so weak
+     * ETags keep both compression and 304s working. Set {@code app.web.etag.strong=true} to emit strong ETags.
+     * </p>
+     *
+     * @param urlPatterns the URL patterns the filter applies to
+     * @param strong      whether to emit strong ETags
+     * @return the {@link FilterRegistrationBean} for the filter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.web.etag.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<FastEtagHeaderFilter> etagFilter(
+            @Value("${app.web.etag.url-patterns:/*}") String[] urlPatterns,
+            @Value("${app.web.etag.strong:false}") boolean strong) {
+        FastEtagHeaderFilter filter = new FastEtagHeaderFilter();
+        filter.setWriteWeakETag(!strong);
+        FilterRegistrationBean<FastEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns(urlPatterns);
+        return registration;
+    }
+
+    /**
+     * Registers the {@link HandlerMetricsInterceptor} and, when {@code app.rate-limit.enabled} is {@code true}, the
+     * {@link RateLimitInterceptor}.
+     * <p>
+     * The metrics interceptor comes first, so requests rejected by the rate limiter are timed as well.
+     * </p>
+     * <p>
+     * Clients are keyed by the {@link ClientKeyResolver} bean if one is declared, e.g. one authenticating API keys,
+     * otherwise by the remote address. Rejected requests are answered with a 429 and a {@code Retry-After} header by
+     * {@link GlobalExceptionHandler}.
+     * </p>
+     *
+     * @param registry the {@link InterceptorRegistry} to configure
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(handlerMetricsInterceptor);
+        RateLimitProperties properties = rateLimitProperties;
+        if (!properties.isEnabled()) {
+            return;
+        }
+        RateLimiter rateLimiter = new RateLimiter(properties.getRequestsPerSecond(), properties.getBurst(),
+                properties.getMaxClients());
+        ClientKeyResolver resolver = clientKeyResolver.getIfAvailable(ClientKeyResolver::remoteAddress);
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter, resolver))
+                .addPathPatterns(properties.getPathPatterns())
+                .excludePathPatterns(properties.getExcludePathPatterns());
+    }
+
+    /**
+     * Configures asynchronous request processing, used by streaming responses.
+     * <p>
+     * Streaming bodies run on Spring Boot's {@code applicationTaskExecutor} (virtual threads when enabled) and may run
+     * for up to {@code app.web.async-request-timeout}, which leaves room for large exports.
+     * </p>
+     *
+     * @param configurer the {@link AsyncSupportConfigurer} to configure
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationTaskExecutor);
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+
     /**
      * Adds custom formatters to the application's formatter registry.
      * <p>
@@ -54,13 +167,33 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addFormatterForFieldType(LocalDateTime.class, new LocalDateTimeFormatter());
     }
 
+    /**
+     * Makes the JSON message converters use the application {@link ObjectMapper}.
+     * <p>
+     * With {@link EnableWebMvc} the default converters build their own {@link ObjectMapper}, which would bypass the
+     * configuration in {@link ApplicationConfig#objectMapper}.
+     * </p>
+     *
+     * @param converters the list of configured {@link HttpMessageConverter}s
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (HttpMessageConverter<?> converter : converters) {
+            if (converter instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+                jacksonConverter.setObjectMapper(objectMapper);
+            }
+        }
+    }
+
     /**
      * Custom formatter for {@link LocalDateTime}.
      * <p>
      * This inner class provides methods to parse and print {@link LocalDateTime} using the ISO_LOCAL_DATE_TIME format.
+     * The common fixed layout is handled by {@link IsoDateTimes}, which only falls back to
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} for unusual forms.
      * </p>
      */
-    private static class LocalDateTimeFormatter implements Formatter<LocalDateTime> {
+    static class LocalDateTimeFormatter implements Formatter<LocalDateTime> {
 
         /**
          * Parses a {@link String} into a {@link LocalDateTime} using the ISO_LOCAL_DATE_TIME format.
@@ -72,7 +205,7 @@ public class WebConfig implements WebMvcConfigurer {
          */
         @Override
         public LocalDateTime parse(String text, Locale locale) throws DateTimeParseException {
-            return LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            return IsoDateTimes.parse(text);
         }
 
         /**
@@ -84,7 +217,7 @@ public class WebConfig implements WebMvcConfigurer {
          */
         @Override
         public String print(LocalDateTime object, Locale locale) {
-            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(object);
+            return IsoDateTimes.format(object);
         }
     }
 
@@ -0,0 +1,109 @@
+package com.athomic.app.datasource;
+
+import com.athomic.app.util.Assert;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataSource} decorator that bounds the number of connections checked out at the same time.
+ * <p>
+ * With virtual threads there is no longer a thread pool limiting how many requests reach the connection pool, so
+ * thousands of threads can end up queued inside it. This decorator holds a permit per open connection; callers beyond
+ * the limit park cheaply on a fair {@link Semaphore} and fail with a {@link SQLTransientConnectionException} once the
+ * acquire timeout elapses. The permit is released when the connection is closed; connections are wrapped in a plain
+ * delegating {@link Connection}, so JDBC calls pay no proxy or reflection cost.
+ * </p>
+ * <p>
+ * Closing the decorator closes the target when it is {@link AutoCloseable}, so a decorated pool bean is still shut
+ * down with the application context.
+ * </p>
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    /**
+     * Creates a decorator allowing at most {@code maxConnections} connections to be checked out at once.
+     *
+     * @param targetDataSource the {@link DataSource} to decorate (cannot be {@code null})
+     * @param maxConnections   the maximum number of concurrently open connections (must be greater than 0)
+     * @param acquireTimeout   the maximum time to wait for a permit (cannot be {@code null})
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, Duration acquireTimeout) {
+        super(targetDataSource);
+        Assert.isTrue(maxConnections > 0, "maxConnections must be greater than 0.");
+        Assert.notNull(acquireTimeout, "acquireTimeout cannot be null.");
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        return guarded(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        return guarded(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * Returns the number of connections that can still be checked out without waiting.
+     *
+     * @return the number of available permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Closes the target {@link DataSource} if it is {@link AutoCloseable}, e.g. a connection pool.
+     *
+     * @throws Exception if the target fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Timed out waiting for a connection permit after "
+                        + Duration.ofNanos(acquireTimeoutNanos) + ".");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit.", ex);
+        }
+    }
+
+    private Connection guarded(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+        return new PermitReleasingConnection(connection, permits);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+}
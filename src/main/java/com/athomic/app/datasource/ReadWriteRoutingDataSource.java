@@ -0,0 +1,206 @@
+package com.athomic.app.datasource;
+
+import com.athomic.app.util.Assert;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * {@link DataSource} that sends read-only transactions to read replicas and everything else to the primary.
+ * <p>
+ * Work inside {@code @Transactional(readOnly = true)} is routed to one of the replicas, chosen round-robin or by the
+ * fewest active connections ({@link Selection}). Writes, read-write transactions and work outside a transaction go to
+ * the primary. The routing decision reads the transaction's read-only flag, which Spring sets only after the
+ * transaction manager has asked for a connection, so this data source must be used behind a
+ * {@link LazyConnectionDataSourceProxy} that fetches the physical connection on the first statement.
+ * </p>
+ * <p>
+ * Read-your-writes: when a read-write transaction commits, the client it ran for (as returned by
+ * {@code clientKey}) is pinned to the primary for {@code stickinessWindow}, so its next reads see its own writes
+ * despite replication lag. At most {@code maxTrackedClients} clients are tracked; beyond that, expired entries are
+ * dropped and, if every entry is still recent, writes of untracked clients pin all untracked clients instead, which
+ * trades replica offload for consistency while memory stays bounded. Work without a client key is never pinned.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    /**
+     * Strategy for choosing a replica.
+     */
+    public enum Selection {
+
+        /**
+         * Cycles through the replicas.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Picks the replica with the fewest active connections, starting from the next round-robin position on ties.
+         * Requires {@link HikariDataSource} replicas, possibly wrapped; other pools count as idle.
+         */
+        LEAST_LOADED
+    }
+
+    private final List<DataSource> replicas;
+    private final Selection selection;
+    private final long stickinessWindowNanos;
+    private final int maxTrackedClients;
+    private final Supplier<String> clientKey;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ConcurrentMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final AtomicLong lastUntrackedWrite;
+
+    /**
+     * Creates a routing data source.
+     *
+     * @param primary           the primary database (cannot be {@code null})
+     * @param replicas          the read replicas (cannot be {@code null} or empty)
+     * @param selection         how a replica is chosen (cannot be {@code null})
+     * @param stickinessWindow  how long a client reads from the primary after a write (cannot be {@code null} or
+     *                          negative)
+     * @param maxTrackedClients the maximum number of clients tracked for stickiness (must be greater than 0)
+     * @param clientKey         supplies the key of the client the current work runs for, or {@code null} (cannot be
+     *                          {@code null})
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Selection selection,
+                                      Duration stickinessWindow, int maxTrackedClients, Supplier<String> clientKey) {
+        this(primary, replicas, selection, stickinessWindow, maxTrackedClients, clientKey, System::nanoTime);
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Selection selection,
+                               Duration stickinessWindow, int maxTrackedClients, Supplier<String> clientKey,
+                               LongSupplier nanoClock) {
+        Assert.notNull(primary, "primary cannot be null.");
+        Assert.notEmpty(replicas, "replicas cannot be empty.");
+        Assert.notNull(selection, "selection cannot be null.");
+        Assert.isTrue(stickinessWindow != null && !stickinessWindow.isNegative(), "stickinessWindow cannot be negative.");
+        Assert.isTrue(maxTrackedClients > 0, "maxTrackedClients must be greater than 0.");
+        Assert.notNull(clientKey, "clientKey cannot be null.");
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.stickinessWindowNanos = stickinessWindow.toNanos();
+        this.maxTrackedClients = maxTrackedClients;
+        this.clientKey = clientKey;
+        this.nanoClock = nanoClock;
+        this.lastUntrackedWrite = new AtomicLong(nanoClock.getAsLong() - stickinessWindowNanos - 1);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String client = clientKey.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (client != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(client);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (client != null && isPinned(client)) {
+            return PRIMARY;
+        }
+        return selectReplica();
+    }
+
+    /**
+     * Closes the replica pools; the primary is managed by its owner.
+     */
+    @Override
+    public void close() {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    logger.warn("Could not close replica data source", ex);
+                }
+            }
+        }
+    }
+
+    private int selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        if (selection == Selection.ROUND_ROBIN || size == 1) {
+            return start;
+        }
+        int best = start;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            int load = activeConnections(replicas.get(index));
+            if (load < bestLoad) {
+                best = index;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        HikariDataSource hikari;
+        try {
+            // Replicas may be wrapped, e.g. by the connection guard in virtual-thread mode
+            hikari = dataSource instanceof HikariDataSource direct ? direct
+                    : dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return 0;
+        }
+        HikariPoolMXBean pool = hikari != null ? hikari.getHikariPoolMXBean() : null;
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    private void recordWrite(String client) {
+        long now = nanoClock.getAsLong();
+        if (!lastWrites.containsKey(client) && lastWrites.size() >= maxTrackedClients) {
+            lastWrites.values().removeIf(written -> now - written > stickinessWindowNanos);
+            if (lastWrites.size() >= maxTrackedClients) {
+                lastUntrackedWrite.set(now);
+                return;
+            }
+        }
+        lastWrites.put(client, now);
+    }
+
+    private boolean isPinned(String client) {
+        long now = nanoClock.getAsLong();
+        Long written = lastWrites.get(client);
+        if (written != null) {
+            return now - written <= stickinessWindowNanos;
+        }
+        return now - lastUntrackedWrite.get() <= stickinessWindowNanos;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.athomic.app.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable page of a keyset-paginated result, returned by {@link com.athomic.app.persistence.KeysetPaginator}.
+ * <p>
+ * {@code nextCursor} is an opaque token to pass back for the following page; it is {@code null} on the last page.
+ * There is no total count: counting would scan the whole result and defeat the purpose of keyset pagination.
+ * </p>
+ *
+ * @param <T> the type of the items
+ */
+@JsonIgnoreProperties(value = "hasNext", allowGetters = true)
+public final class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    @JsonCreator
+    public CursorPage(@JsonProperty("items") List<T> items,
+                      @JsonProperty("nextCursor") String nextCursor) {
+        this.items = items != null ? Collections.unmodifiableList(new ArrayList<>(items)) : List.of();
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @JsonProperty("hasNext")
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Converts the items, typically from entities to response DTOs, keeping the cursor.
+     *
+     * @param mapper the conversion applied to every item
+     * @param <R>    the type of the converted items
+     * @return a new {@link CursorPage} with the converted items
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(items.size());
+        for (T item : items) {
+            mapped.add(mapper.apply(item));
+        }
+        return new CursorPage<>(mapped, nextCursor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CursorPage<?> that)) {
+            return false;
+        }
+        return items.equals(that.items) && Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(items, nextCursor);
+    }
+}
@@ -1,15 +1,26 @@
 package com.athomic.app.dto.response;
 
-public class ErrorResponse {
-
-    private int status;
-    private String error;
-    private String message;
-
-    public ErrorResponse() {
-    }
-
-    public ErrorResponse(int status, String reasonPhrase, String message) {
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Immutable error body returned by {@link com.athomic.app.config.GlobalExceptionHandler}.
+ * <p>
+ * Instances can be shared freely, so responses with a fixed message are created once and reused.
+ * </p>
+ */
+public final class ErrorResponse {
+
+    private final int status;
+    private final String error;
+    private final String message;
+
+    @JsonCreator
+    public ErrorResponse(@JsonProperty("status") int status,
+                         @JsonProperty("error") String reasonPhrase,
+                         @JsonProperty("message") String message) {
         this.status = status;
         this.error = reasonPhrase;
         this.message = message;
@@ -19,23 +30,31 @@ public class ErrorResponse {
         return status;
     }
 
-    public void setStatus(int status) {
-        this.status = status;
-    }
-
     public String getError() {
         return error;
     }
 
-    public void setError(String error) {
-        this.error = error;
-    }
-
     public String getMessage() {
         return message;
     }
 
-    public void setMessage(String message) {
-        this.message = message;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ErrorResponse that)) {
+            return false;
+        }
+        return status == that.status && Objects.equals(error, that.error) && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        // Used as a cache key on the error path, so no varargs array or boxing
+        int result = status;
+        result = 31 * result + Objects.hashCode(error);
+        result = 31 * result + Objects.hashCode(message);
+        return result;
     }
-}
\ No newline at end of file
+}
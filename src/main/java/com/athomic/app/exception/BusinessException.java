@@ -0,0 +1,26 @@
+package com.athomic.app.exception;
+
+/**
+ * Base class for expected business failures that are translated into HTTP error responses.
+ * <p>
+ * These exceptions describe outcomes such as a missing resource, not programming errors, so they do not capture a
+ * stack trace ({@link #fillInStackTrace()} is a no-op, as in {@link InvalidArgumentException}). Creating one costs about
+ * as much as a regular object, which keeps the error path cheap when clients hit it at high rates. Because the stack
+ * trace is never captured, instances with a fixed message can also be created once and rethrown.
+ * </p>
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String msg) {
+        super(msg);
+    }
+
+    protected BusinessException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,20 @@
+package com.athomic.app.exception;
+
+/**
+ * {@link IllegalArgumentException} raised by input validation, without a stack trace.
+ * <p>
+ * Validation failures are answered with a 400 response and never logged, so capturing the stack would only add cost
+ * to a path that misbehaving clients can trigger at high rates.
+ * </p>
+ */
+public class InvalidArgumentException extends IllegalArgumentException {
+
+    public InvalidArgumentException(String msg) {
+        super(msg);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
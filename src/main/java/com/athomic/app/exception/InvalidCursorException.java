@@ -0,0 +1,15 @@
+package com.athomic.app.exception;
+
+/**
+ * Raised when a pagination cursor cannot be decoded or was issued for a different sort order.
+ * <p>
+ * Cursors come from clients, so a malformed one is a bad request: like {@link InvalidArgumentException} it is handled
+ * as an {@link IllegalArgumentException} and captures no stack trace.
+ * </p>
+ */
+public class InvalidCursorException extends InvalidArgumentException {
+
+    public InvalidCursorException(String msg) {
+        super(msg);
+    }
+}
@@ -1,6 +1,6 @@
 package com.athomic.app.exception;
 
-public class NotFoundException extends RuntimeException {
+public class NotFoundException extends BusinessException {
     public NotFoundException(String msg) {
         super(msg);
     }
@@ -0,0 +1,15 @@
+package com.athomic.app.exception;
+
+public class PartitionExecutionException extends RuntimeException {
+
+    private final int partition;
+
+    public PartitionExecutionException(int partition, String msg, Throwable cause) {
+        super(msg, cause);
+        this.partition = partition;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+}
@@ -0,0 +1,21 @@
+package com.athomic.app.exception;
+
+/**
+ * Raised when a client exceeds its rate limit.
+ * <p>
+ * Carries the number of seconds after which the client may retry, sent back in the {@code Retry-After} header.
+ * </p>
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super("Too many requests.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,38 @@
+package com.athomic.app.exception;
+
+import com.athomic.app.validation.Violation;
+
+import java.util.List;
+
+/**
+ * Raised when a generated validator finds failed constraints.
+ * <p>
+ * Carries every {@link Violation} found in one validation pass. The message joins the violation messages, so the
+ * client receives the complete list in a single 400 response. Like {@link InvalidArgumentException} it is handled as
+ * an {@link IllegalArgumentException} and captures no stack trace.
+ * </p>
+ */
+public class ValidationException extends InvalidArgumentException {
+
+    private final transient List<Violation> violations;
+
+    public ValidationException(List<Violation> violations) {
+        super(joinMessages(violations));
+        this.violations = List.copyOf(violations);
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    private static String joinMessages(List<Violation> violations) {
+        StringBuilder message = new StringBuilder();
+        for (Violation violation : violations) {
+            if (message.length() > 0) {
+                message.append(' ');
+            }
+            message.append(violation.message());
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,379 @@
+package com.athomic.app.job;
+
+import com.athomic.app.exception.TooManyRequestsException;
+import com.athomic.app.util.Assert;
+import com.athomic.app.util.PartitionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process background job engine with bounded lanes, per-key ordering, batching and retries.
+ * <p>
+ * Jobs are routed to one of {@code lanes} lanes with {@link PartitionUtils#partitionIndex(Object, int)}, so all jobs
+ * of a key land on the same lane. Each lane has a bounded queue and a single worker thread, which guarantees that
+ * jobs of one key run one at a time in submission order; jobs of different keys run in parallel across lanes. The
+ * worker takes the next job and whatever is already queued behind it, up to {@code maxBatchSize}, and hands them to
+ * the {@link JobHandler} in one call: batches grow under load and stay at one job when the engine is idle.
+ * </p>
+ * <p>
+ * A full lane rejects producers with a {@link TooManyRequestsException} (a 429 when submitted from a request), either
+ * immediately ({@link Overflow#REJECT}) or after waiting up to {@code offerTimeout} for space ({@link Overflow#BLOCK}),
+ * so memory stays bounded at {@code lanes * queueCapacity} jobs under overload. A failed batch is retried on the same
+ * lane with exponential backoff, holding back the jobs behind it to keep their order; after {@code maxAttempts} it is
+ * logged and dropped.
+ * </p>
+ * <p>
+ * Publishes, tagged with the engine name: {@code app.jobs.queued} (jobs waiting), {@code app.jobs.wait} (time from
+ * submission to execution), {@code app.jobs.execution} (handler time per attempt), {@code app.jobs.batch.size},
+ * and the {@code app.jobs.completed}, {@code app.jobs.failed}, {@code app.jobs.rejected} and {@code app.jobs.retries}
+ * counters. {@link #close()} stops accepting jobs and drains the queues for up to {@code shutdownTimeout}.
+ * </p>
+ *
+ * @param <T> the type of the jobs
+ */
+public class JobEngine<T> implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobEngine.class);
+
+    private static final Object STOP = new Object();
+
+    private final String name;
+    private final JobHandler<T> handler;
+    private final Options options;
+    private final List<Lane> lanes;
+    private volatile boolean closed;
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Counter retries;
+
+    /**
+     * Behaviour of {@link #submit} when the lane of a job is full.
+     */
+    public enum Overflow {
+        /**
+         * Rejects the job immediately.
+         */
+        REJECT,
+        /**
+         * Waits up to {@code offerTimeout} for space, then rejects the job.
+         */
+        BLOCK
+    }
+
+    /**
+     * Settings of a {@link JobEngine}.
+     *
+     * @param lanes           the number of lanes, i.e. of worker threads
+     * @param queueCapacity   the maximum number of jobs waiting in each lane
+     * @param overflow        the behaviour when a lane is full
+     * @param offerTimeout    the maximum time a producer waits for space with {@link Overflow#BLOCK}
+     * @param maxBatchSize    the maximum number of jobs handed to the handler at once ({@code 1} disables batching)
+     * @param maxAttempts     the number of times a batch is run before it is dropped ({@code 1} disables retries)
+     * @param initialBackoff  the delay before the first retry, doubled on every further retry
+     * @param maxBackoff      the maximum delay between retries
+     * @param shutdownTimeout the maximum time {@link #close()} waits for the queues to drain
+     */
+    public record Options(int lanes, int queueCapacity, Overflow overflow, Duration offerTimeout, int maxBatchSize,
+                          int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration shutdownTimeout) {
+
+        public Options {
+            Assert.isTrue(lanes > 0, "lanes must be greater than 0.");
+            Assert.isTrue(queueCapacity > 0, "queueCapacity must be greater than 0.");
+            Assert.notNull(overflow, "overflow cannot be null.");
+            Assert.isTrue(offerTimeout != null && !offerTimeout.isNegative(), "offerTimeout cannot be negative.");
+            Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0.");
+            Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than 0.");
+            Assert.isTrue(initialBackoff != null && !initialBackoff.isNegative(), "initialBackoff cannot be negative.");
+            Assert.isTrue(maxBackoff != null && maxBackoff.compareTo(initialBackoff) >= 0,
+                    "maxBackoff cannot be less than initialBackoff.");
+            Assert.isTrue(shutdownTimeout != null && !shutdownTimeout.isNegative(), "shutdownTimeout cannot be negative.");
+        }
+    }
+
+    /**
+     * Creates an engine and starts its workers.
+     *
+     * @param name          the engine name, used in thread names, metrics and logs (cannot be empty)
+     * @param handler       the {@link JobHandler} processing the jobs (cannot be {@code null})
+     * @param options       the engine settings (cannot be {@code null})
+     * @param threadFactory the factory of the lane workers, platform or virtual (cannot be {@code null})
+     * @param registry      the registry the metrics are published to (cannot be {@code null})
+     */
+    public JobEngine(String name, JobHandler<T> handler, Options options, ThreadFactory threadFactory,
+                     MeterRegistry registry) {
+        Assert.hasText(name, "name cannot be empty.");
+        Assert.notNull(handler, "handler cannot be null.");
+        Assert.notNull(options, "options cannot be null.");
+        Assert.notNull(threadFactory, "threadFactory cannot be null.");
+        Assert.notNull(registry, "registry cannot be null.");
+        this.name = name;
+        this.handler = handler;
+        this.options = options;
+
+        Tags tags = Tags.of("engine", name);
+        this.waitTimer = Timer.builder("app.jobs.wait")
+                .description("Time jobs spent queued before execution").tags(tags).register(registry);
+        this.executionTimer = Timer.builder("app.jobs.execution")
+                .description("Time spent in the job handler per attempt").tags(tags).register(registry);
+        this.batchSizes = DistributionSummary.builder("app.jobs.batch.size")
+                .description("Jobs handed to the job handler at once").tags(tags).register(registry);
+        this.completed = Counter.builder("app.jobs.completed").tags(tags).register(registry);
+        this.failed = Counter.builder("app.jobs.failed").tags(tags).register(registry);
+        this.rejected = Counter.builder("app.jobs.rejected").tags(tags).register(registry);
+        this.retries = Counter.builder("app.jobs.retries").tags(tags).register(registry);
+        Gauge.builder("app.jobs.queued", this, JobEngine::queued)
+                .description("Jobs waiting in the lanes").tags(tags).register(registry);
+
+        List<Lane> created = new ArrayList<>(options.lanes());
+        for (int i = 0; i < options.lanes(); i++) {
+            created.add(new Lane());
+        }
+        this.lanes = List.copyOf(created);
+        for (Lane lane : lanes) {
+            lane.worker = threadFactory.newThread(() -> run(lane));
+            lane.worker.start();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Submits a job that must run after the jobs previously submitted with the same key.
+     *
+     * @param key the ordering key, e.g. an aggregate id ({@code null} is a key like any other)
+     * @param job the job (cannot be {@code null})
+     * @throws TooManyRequestsException if the lane of the key is full
+     * @throws IllegalStateException    if the engine is closed
+     */
+    public void submit(Object key, T job) {
+        enqueue(lanes.get(PartitionUtils.partitionIndex(key, lanes.size())), job);
+    }
+
+    /**
+     * Submits a job without ordering constraints, on a random lane.
+     *
+     * @param job the job (cannot be {@code null})
+     * @throws TooManyRequestsException if the chosen lane is full
+     * @throws IllegalStateException    if the engine is closed
+     */
+    public void submit(T job) {
+        enqueue(lanes.get(ThreadLocalRandom.current().nextInt(lanes.size())), job);
+    }
+
+    /**
+     * Returns the number of jobs waiting in the lanes, excluding the batches being executed.
+     *
+     * @return the number of queued jobs
+     */
+    public int queued() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += options.queueCapacity() - lane.permits.availablePermits();
+        }
+        return queued;
+    }
+
+    /**
+     * Stops accepting jobs and waits up to {@code shutdownTimeout} for the queued jobs to run.
+     * <p>
+     * Workers still running after the timeout are interrupted, and the jobs left in their queues are counted as
+     * failed. Calling this method again has no effect.
+     * </p>
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Lane lane : lanes) {
+            lane.queue.add(STOP);
+        }
+
+        long deadline = System.nanoTime() + options.shutdownTimeout().toNanos();
+        try {
+            for (Lane lane : lanes) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedJoin(lane.worker, remaining);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        int abandoned = 0;
+        for (Lane lane : lanes) {
+            if (lane.worker.isAlive()) {
+                lane.worker.interrupt();
+                abandoned += options.queueCapacity() - lane.permits.availablePermits();
+            }
+        }
+        if (abandoned > 0) {
+            failed.increment(abandoned);
+            LOGGER.warn("Job engine {} did not drain within {}; {} queued jobs were abandoned.",
+                    name, options.shutdownTimeout(), abandoned);
+        }
+    }
+
+    private void enqueue(Lane lane, T job) {
+        Assert.notNull(job, "job cannot be null.");
+        Assert.state(!closed, () -> "Job engine " + name + " is closed.");
+        if (!acquire(lane.permits)) {
+            rejected.increment();
+            throw new TooManyRequestsException(1);
+        }
+        if (closed) {
+            lane.permits.release();
+            throw new IllegalStateException("Job engine " + name + " is closed.");
+        }
+        Entry<T> entry = new Entry<>(job, System.nanoTime());
+        lane.queue.add(entry);
+        // Raced with close() past the worker's last poll: take the job back rather than leave it in a dead lane
+        if (lane.exited && lane.queue.remove(entry)) {
+            lane.permits.release();
+            throw new IllegalStateException("Job engine " + name + " is closed.");
+        }
+    }
+
+    private boolean acquire(Semaphore permits) {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (options.overflow() == Overflow.REJECT) {
+            return false;
+        }
+        try {
+            return permits.tryAcquire(options.offerTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run(Lane lane) {
+        List<Object> drained = new ArrayList<>(options.maxBatchSize());
+        boolean stopping = false;
+        try {
+            while (true) {
+                // After the stop marker, jobs that raced with close() are still run, without waiting for more
+                Object head = stopping ? lane.queue.poll() : lane.queue.take();
+                if (head == null) {
+                    // Publish the exit before the last poll, so a racing producer either sees it or is polled here
+                    lane.exited = true;
+                    head = lane.queue.poll();
+                    if (head == null) {
+                        return;
+                    }
+                }
+                drained.add(head);
+                if (options.maxBatchSize() > 1) {
+                    lane.queue.drainTo(drained, options.maxBatchSize() - 1);
+                }
+
+                long now = System.nanoTime();
+                List<T> jobs = new ArrayList<>(drained.size());
+                for (Object element : drained) {
+                    if (element == STOP) {
+                        stopping = true;
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        Entry<T> entry = (Entry<T>) element;
+                        waitTimer.record(now - entry.enqueuedAt(), TimeUnit.NANOSECONDS);
+                        jobs.add(entry.job());
+                    }
+                }
+                drained.clear();
+                if (!jobs.isEmpty()) {
+                    lane.permits.release(jobs.size());
+                    execute(jobs);
+                }
+            }
+        } catch (InterruptedException ex) {
+            // close() timed out: exit, leaving the remaining jobs abandoned
+            Thread.currentThread().interrupt();
+        } finally {
+            lane.exited = true;
+        }
+    }
+
+    private void execute(List<T> jobs) throws InterruptedException {
+        batchSizes.record(jobs.size());
+        long backoffNanos = options.initialBackoff().toNanos();
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                handler.handle(jobs);
+                executionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                completed.increment(jobs.size());
+                return;
+            } catch (InterruptedException ex) {
+                // close() timed out while the handler was waiting: no retry, the worker exits
+                executionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                failed.increment(jobs.size());
+                throw ex;
+            } catch (Exception ex) {
+                executionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (attempt >= options.maxAttempts()) {
+                    failed.increment(jobs.size());
+                    LOGGER.error("Job engine {} dropped a batch of {} jobs after {} attempts.",
+                            name, jobs.size(), attempt, ex);
+                    return;
+                }
+                retries.increment();
+                LOGGER.warn("Job engine {} failed a batch of {} jobs (attempt {} of {}), retrying in {} ms: {}",
+                        name, jobs.size(), attempt, options.maxAttempts(),
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos), ex.toString());
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoffNanos);
+                } catch (InterruptedException interrupted) {
+                    failed.increment(jobs.size());
+                    throw interrupted;
+                }
+                backoffNanos = Math.min(backoffNanos * 2, options.maxBackoff().toNanos());
+            }
+        }
+    }
+
+    /**
+     * A lane: a bounded queue and its worker.
+     * <p>
+     * Capacity is enforced by {@code permits}, taken by producers and returned when the worker dequeues; the queue has
+     * one extra slot so the stop marker always fits. {@code exited} is set once the worker no longer polls the queue.
+     * </p>
+     */
+    private final class Lane {
+
+        private final Semaphore permits = new Semaphore(options.queueCapacity());
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(options.queueCapacity() + 1);
+        private volatile boolean exited;
+        private Thread worker;
+    }
+
+    private record Entry<T>(T job, long enqueuedAt) {
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.athomic.app.job;
+
+import com.athomic.app.util.Assert;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+/**
+ * Creates {@link JobEngine}s from the application settings and closes them on shutdown.
+ * <p>
+ * Engines are meant to be created once per kind of work, typically in a {@code @Bean} method or a service
+ * constructor, and named after it ({@code imports}, {@code notifications}): the name selects the
+ * {@code app.jobs.engines.<name>.*} settings and tags the metrics. Closing this factory closes every engine it created,
+ * most recent first, draining their queues.
+ * </p>
+ */
+public class JobEngines implements AutoCloseable {
+
+    private final Function<String, JobEngine.Options> options;
+    private final Function<String, ThreadFactory> threadFactories;
+    private final MeterRegistry registry;
+    private final List<JobEngine<?>> engines = new ArrayList<>();
+
+    /**
+     * Creates a factory.
+     *
+     * @param options         the options of each engine, by name
+     * @param threadFactories the worker thread factory of each engine, by name
+     * @param registry        the registry the engine metrics are published to
+     */
+    public JobEngines(Function<String, JobEngine.Options> options, Function<String, ThreadFactory> threadFactories,
+                      MeterRegistry registry) {
+        Assert.notNull(options, "options cannot be null.");
+        Assert.notNull(threadFactories, "threadFactories cannot be null.");
+        Assert.notNull(registry, "registry cannot be null.");
+        this.options = options;
+        this.threadFactories = threadFactories;
+        this.registry = registry;
+    }
+
+    /**
+     * Creates and starts an engine.
+     *
+     * @param name    the engine name (cannot be empty)
+     * @param handler the {@link JobHandler} processing the jobs
+     * @param <T>     the type of the jobs
+     * @return a running {@link JobEngine}
+     * @throws IllegalStateException if an engine with the same name already exists
+     */
+    public synchronized <T> JobEngine<T> create(String name, JobHandler<T> handler) {
+        Assert.hasText(name, "name cannot be empty.");
+        for (JobEngine<?> engine : engines) {
+            Assert.state(!engine.getName().equals(name), () -> "A job engine named " + name + " already exists.");
+        }
+        JobEngine<T> engine = new JobEngine<>(name, handler, options.apply(name), threadFactories.apply(name), registry);
+        engines.add(engine);
+        return engine;
+    }
+
+    /**
+     * Closes every engine created by this factory, most recent first.
+     */
+    @Override
+    public synchronized void close() {
+        for (int i = engines.size() - 1; i >= 0; i--) {
+            engines.get(i).close();
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.athomic.app.job;
+
+import java.util.List;
+
+/**
+ * Processes the jobs of a {@link JobEngine}.
+ * <p>
+ * Jobs are handed over in batches of up to {@code maxBatchSize} jobs taken from the same lane, in submission order, so
+ * small jobs can be written in one statement or sent in one request. A batch that throws is retried as a whole, so
+ * handlers should be idempotent.
+ * </p>
+ *
+ * @param <T> the type of the jobs
+ */
+@FunctionalInterface
+public interface JobHandler<T> {
+
+    /**
+     * Processes a batch of jobs.
+     *
+     * @param jobs the jobs, in submission order (never empty)
+     * @throws Exception if the batch failed and should be retried
+     */
+    void handle(List<T> jobs) throws Exception;
+}
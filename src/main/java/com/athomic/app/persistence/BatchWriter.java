@@ -0,0 +1,142 @@
+package com.athomic.app.persistence;
+
+import com.athomic.app.util.Assert;
+import com.athomic.app.util.ParallelPartitionExecutor;
+import com.athomic.app.util.PartitionUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Writes large collections of entities with JDBC batching and a bounded persistence context.
+ * <p>
+ * The input is cut into chunks of {@code app.jpa.batch.chunk-size} entities with
+ * {@link PartitionUtils#chunkPartition(Collection, int)} and every chunk is written in its own transaction. Inside a
+ * chunk the persistence context is flushed and cleared every {@code hibernate.jdbc.batch_size} entities, so each flush
+ * becomes a single JDBC batch and the first-level cache never holds more than one batch. Chunks can optionally be
+ * written in parallel, each on its own connection.
+ * </p>
+ * <p>
+ * Each chunk commits independently: if a chunk fails, previously committed chunks stay committed.
+ * </p>
+ */
+@Component
+public class BatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int jdbcBatchSize;
+    private final Duration chunkTimeout;
+
+    public BatchWriter(PlatformTransactionManager transactionManager,
+                       @Value("${app.jpa.batch.chunk-size:1000}") int chunkSize,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize,
+                       @Value("${app.jpa.batch.chunk-timeout:5m}") Duration chunkTimeout) {
+        Assert.isTrue(chunkSize > 0, "chunkSize must be greater than 0.");
+        Assert.isTrue(jdbcBatchSize > 0, "jdbcBatchSize must be greater than 0.");
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.chunkTimeout = chunkTimeout;
+    }
+
+    /**
+     * Persists new entities chunk by chunk on the calling thread.
+     *
+     * @param entities the entities to persist (cannot be {@code null})
+     * @param <T>      the entity type
+     */
+    public <T> void persistAll(Collection<T> entities) {
+        writeAll(entities, 1, EntityManager::persist);
+    }
+
+    /**
+     * Persists new entities, writing up to {@code parallelism} chunks concurrently.
+     * <p>
+     * Every concurrent chunk holds a connection for the duration of its transaction, so {@code parallelism} should stay
+     * well below the connection pool size.
+     * </p>
+     *
+     * @param entities    the entities to persist (cannot be {@code null})
+     * @param parallelism the maximum number of chunks written at the same time (must be greater than 0)
+     * @param <T>         the entity type
+     */
+    public <T> void persistAll(Collection<T> entities, int parallelism) {
+        writeAll(entities, parallelism, EntityManager::persist);
+    }
+
+    /**
+     * Merges detached entities chunk by chunk on the calling thread.
+     *
+     * @param entities the entities to merge (cannot be {@code null})
+     * @param <T>      the entity type
+     */
+    public <T> void mergeAll(Collection<T> entities) {
+        writeAll(entities, 1, EntityManager::merge);
+    }
+
+    /**
+     * Merges detached entities, writing up to {@code parallelism} chunks concurrently.
+     *
+     * @param entities    the entities to merge (cannot be {@code null})
+     * @param parallelism the maximum number of chunks written at the same time (must be greater than 0)
+     * @param <T>         the entity type
+     */
+    public <T> void mergeAll(Collection<T> entities, int parallelism) {
+        writeAll(entities, parallelism, EntityManager::merge);
+    }
+
+    private <T> void writeAll(Collection<T> entities, int parallelism, BiConsumer<EntityManager, T> operation) {
+        Assert.notNull(entities, "entities cannot be null.");
+        Assert.isTrue(parallelism > 0, "parallelism must be greater than 0.");
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        int numChunks = (entities.size() + chunkSize - 1) / chunkSize;
+        if (parallelism == 1 || numChunks == 1) {
+            for (List<T> chunk : PartitionUtils.chunkPartition(entities, numChunks)) {
+                writeChunk(chunk, operation);
+            }
+            return;
+        }
+
+        try (ParallelPartitionExecutor executor =
+                     ParallelPartitionExecutor.forkJoin(Math.min(parallelism, numChunks), chunkTimeout)) {
+            executor.execute(entities, numChunks, PartitionUtils::chunkPartition, chunk -> {
+                writeChunk(chunk, operation);
+                return chunk.size();
+            });
+        }
+    }
+
+    private <T> void writeChunk(List<T> chunk, BiConsumer<EntityManager, T> operation) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int pending = 0;
+            for (T entity : chunk) {
+                operation.accept(entityManager, entity);
+                if (++pending == jdbcBatchSize) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    pending = 0;
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+}
@@ -0,0 +1,354 @@
+package com.athomic.app.persistence;
+
+import com.athomic.app.exception.InvalidCursorException;
+import com.athomic.app.util.Assert;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Sort order of a keyset-paginated query, with the predicates and cursors that go with it.
+ * <p>
+ * A keyset is a list of attributes, each ascending or descending, whose combination is unique; the last one is usually
+ * the id. A page after a given row is selected with {@link #predicate(String)}: a row value comparison
+ * {@code (a, b) > (:keyset0, :keyset1)} when all attributes sort the same way, which PostgreSQL answers with a single
+ * index range scan on {@code (a, b)}, or the equivalent expanded form for mixed directions. Either way the database
+ * seeks directly to the first row of the page, so page 1000 costs the same as page 1. The fragments are plain
+ * JPQL/SQL with named parameters and work with JPA as well as {@code NamedParameterJdbcTemplate}.
+ * </p>
+ * <p>
+ * Cursors are the key values of the last row of a page, encoded as URL-safe base64 together with a fingerprint of the
+ * keyset, so a cursor issued for one sort order is rejected by another. Cursors are opaque but not signed: a client can
+ * forge one, which only selects another starting row. Supported key types are {@link Long}, {@link Integer},
+ * {@link String}, {@link UUID}, {@link BigDecimal}, {@link LocalDate}, {@link LocalDateTime}, {@link Instant} and
+ * {@link OffsetDateTime}; keys cannot be {@code null}.
+ * </p>
+ */
+public final class Keyset {
+
+    /**
+     * Prefix of the named parameters used by {@link #predicate(String)}, followed by the attribute index.
+     */
+    public static final String PARAMETER_PREFIX = "keyset";
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*");
+    private static final int MAX_CURSOR_LENGTH = 2048;
+    private static final byte VERSION = 1;
+
+    private static final byte LONG = 'J';
+    private static final byte INTEGER = 'I';
+    private static final byte STRING = 'S';
+    private static final byte UUID_TYPE = 'U';
+    private static final byte DECIMAL = 'B';
+    private static final byte DATE = 'D';
+    private static final byte DATE_TIME = 'T';
+    private static final byte INSTANT = 'N';
+    private static final byte OFFSET_DATE_TIME = 'O';
+
+    private final List<Column> columns;
+    private final int fingerprint;
+
+    private Keyset(List<Column> columns) {
+        this.columns = columns;
+        // String hash codes are specified, so cursors stay valid across restarts and instances
+        int hash = 1;
+        for (Column column : columns) {
+            hash = 31 * hash + (column.attribute() + ' ' + column.direction().name()).hashCode();
+        }
+        this.fingerprint = hash;
+    }
+
+    /**
+     * Sort direction of a keyset attribute.
+     */
+    public enum Direction {
+        ASC, DESC
+    }
+
+    /**
+     * A keyset attribute and its direction.
+     *
+     * @param attribute the attribute path, e.g. {@code createdAt} or {@code customer.id}
+     * @param direction the sort direction
+     */
+    public record Column(String attribute, Direction direction) {
+
+        public Column {
+            Assert.notNull(attribute, "attribute cannot be null.");
+            Assert.isTrue(ATTRIBUTE.matcher(attribute).matches(), () -> "Invalid keyset attribute: " + attribute + ".");
+            Assert.notNull(direction, "direction cannot be null.");
+        }
+
+        public static Column asc(String attribute) {
+            return new Column(attribute, Direction.ASC);
+        }
+
+        public static Column desc(String attribute) {
+            return new Column(attribute, Direction.DESC);
+        }
+    }
+
+    /**
+     * Creates a keyset from its columns.
+     *
+     * @param columns the columns, most significant first (cannot be empty)
+     * @return a {@link Keyset}
+     */
+    public static Keyset of(Column... columns) {
+        Assert.notEmpty(columns, "columns cannot be empty.");
+        Assert.noNullElements(columns, "columns cannot contain null elements.");
+        return new Keyset(List.of(columns));
+    }
+
+    /**
+     * Creates a keyset sorting every attribute in ascending order.
+     *
+     * @param attributes the attributes, most significant first (cannot be empty)
+     * @return a {@link Keyset}
+     */
+    public static Keyset ascending(String... attributes) {
+        return of(Arrays.stream(attributes).map(Column::asc).toArray(Column[]::new));
+    }
+
+    /**
+     * Creates a keyset sorting every attribute in descending order.
+     *
+     * @param attributes the attributes, most significant first (cannot be empty)
+     * @return a {@link Keyset}
+     */
+    public static Keyset descending(String... attributes) {
+        return of(Arrays.stream(attributes).map(Column::desc).toArray(Column[]::new));
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the attributes qualified by {@code alias}, comma separated, e.g. for a select list.
+     *
+     * @param alias the alias of the queried entity or table
+     * @return e.g. {@code e.createdAt, e.id}
+     */
+    public String selection(String alias) {
+        StringBuilder selection = new StringBuilder();
+        for (Column column : columns) {
+            if (!selection.isEmpty()) {
+                selection.append(", ");
+            }
+            selection.append(alias).append('.').append(column.attribute());
+        }
+        return selection.toString();
+    }
+
+    /**
+     * Returns the {@code ORDER BY} list of this keyset, without the keywords.
+     *
+     * @param alias the alias of the queried entity or table
+     * @return e.g. {@code e.createdAt asc, e.id asc}
+     */
+    public String orderBy(String alias) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Column column : columns) {
+            if (!orderBy.isEmpty()) {
+                orderBy.append(", ");
+            }
+            orderBy.append(alias).append('.').append(column.attribute())
+                    .append(column.direction() == Direction.ASC ? " asc" : " desc");
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * Returns the predicate selecting the rows after the row whose key values are bound by {@link #parameters}.
+     *
+     * @param alias the alias of the queried entity or table
+     * @return e.g. {@code (e.createdAt, e.id) > (:keyset0, :keyset1)}
+     */
+    public String predicate(String alias) {
+        Direction direction = columns.get(0).direction();
+        if (columns.stream().allMatch(column -> column.direction() == direction)) {
+            String operator = direction == Direction.ASC ? " > " : " < ";
+            if (columns.size() == 1) {
+                return alias + '.' + columns.get(0).attribute() + operator + ':' + PARAMETER_PREFIX + 0;
+            }
+            StringBuilder parameters = new StringBuilder();
+            for (int i = 0; i < columns.size(); i++) {
+                parameters.append(i == 0 ? "" : ", ").append(':').append(PARAMETER_PREFIX).append(i);
+            }
+            return "(" + selection(alias) + ")" + operator + "(" + parameters + ")";
+        }
+        // Mixed directions: a > :k0 or (a = :k0 and (b < :k1 or (b = :k1 and ...)))
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            Column column = columns.get(i);
+            String attribute = alias + '.' + column.attribute();
+            String parameter = ":" + PARAMETER_PREFIX + i;
+            predicate.append('(').append(attribute).append(column.direction() == Direction.ASC ? " > " : " < ")
+                    .append(parameter);
+            if (i < columns.size() - 1) {
+                predicate.append(" or (").append(attribute).append(" = ").append(parameter).append(" and ");
+            }
+        }
+        predicate.append(")".repeat(columns.size() * 2 - 1));
+        return predicate.toString();
+    }
+
+    /**
+     * Returns the named parameters of {@link #predicate(String)} for the given key values.
+     *
+     * @param keyValues the key values of the last row of the previous page, as returned by {@link #decode(String)}
+     * @return the parameters, by name
+     */
+    public Map<String, Object> parameters(Object[] keyValues) {
+        Assert.isTrue(keyValues != null && keyValues.length == columns.size(),
+                () -> "keyValues must have " + columns.size() + " elements.");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i++) {
+            parameters.put(PARAMETER_PREFIX + i, keyValues[i]);
+        }
+        return parameters;
+    }
+
+    /**
+     * Encodes the key values of a row as a cursor.
+     *
+     * @param keyValues the values of the keyset attributes, in keyset order (cannot contain {@code null})
+     * @return an opaque, URL-safe cursor
+     * @throws IllegalArgumentException if the number or type of the values is not supported
+     */
+    public String encode(Object... keyValues) {
+        Assert.isTrue(keyValues != null && keyValues.length == columns.size(),
+                () -> "keyValues must have " + columns.size() + " elements.");
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put(VERSION).putInt(fingerprint);
+        for (Object value : keyValues) {
+            Assert.notNull(value, "Keyset values cannot be null.");
+            buffer = write(buffer, value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(Object...)} of this keyset.
+     *
+     * @param cursor the cursor sent by the client (cannot be {@code null})
+     * @return the key values, in keyset order
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another keyset
+     */
+    public Object[] decode(String cursor) {
+        Assert.notNull(cursor, "cursor cannot be null.");
+        if (cursor.length() > MAX_CURSOR_LENGTH) {
+            throw new InvalidCursorException("Invalid cursor.");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.get() != VERSION || buffer.getInt() != fingerprint) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+            Object[] keyValues = new Object[columns.size()];
+            for (int i = 0; i < keyValues.length; i++) {
+                keyValues[i] = read(buffer);
+            }
+            if (buffer.hasRemaining()) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+            return keyValues;
+        } catch (InvalidCursorException ex) {
+            throw ex;
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException ex) {
+            throw new InvalidCursorException("Invalid cursor.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset" + columns;
+    }
+
+    private static ByteBuffer write(ByteBuffer buffer, Object value) {
+        byte[] text = null;
+        if (value instanceof String string) {
+            text = string.getBytes(StandardCharsets.UTF_8);
+        } else if (value instanceof BigDecimal decimal) {
+            text = decimal.toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        int needed = 1 + (text != null ? 4 + text.length : 17);
+        if (buffer.remaining() < needed) {
+            buffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + needed))
+                    .put(buffer.flip());
+        }
+
+        if (value instanceof Long longValue) {
+            buffer.put(LONG).putLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            buffer.put(INTEGER).putInt(intValue);
+        } else if (value instanceof String) {
+            buffer.put(STRING).putInt(text.length).put(text);
+        } else if (value instanceof BigDecimal) {
+            buffer.put(DECIMAL).putInt(text.length).put(text);
+        } else if (value instanceof UUID uuid) {
+            buffer.put(UUID_TYPE).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof LocalDate date) {
+            buffer.put(DATE).putLong(date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            buffer.put(DATE_TIME).putLong(dateTime.toEpochSecond(ZoneOffset.UTC)).putInt(dateTime.getNano());
+        } else if (value instanceof Instant instant) {
+            buffer.put(INSTANT).putLong(instant.getEpochSecond()).putInt(instant.getNano());
+        } else if (value instanceof OffsetDateTime dateTime) {
+            buffer.put(OFFSET_DATE_TIME).putLong(dateTime.toEpochSecond()).putInt(dateTime.getNano())
+                    .putInt(dateTime.getOffset().getTotalSeconds());
+        } else {
+            throw new IllegalArgumentException("Unsupported keyset value type: " + value.getClass().getName() + ".");
+        }
+        return buffer;
+    }
+
+    private static Object read(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case LONG -> buffer.getLong();
+            case INTEGER -> buffer.getInt();
+            case STRING -> new String(bytes(buffer), StandardCharsets.UTF_8);
+            case DECIMAL -> new BigDecimal(new String(bytes(buffer), StandardCharsets.US_ASCII));
+            case UUID_TYPE -> new UUID(buffer.getLong(), buffer.getLong());
+            case DATE -> LocalDate.ofEpochDay(buffer.getLong());
+            case DATE_TIME -> LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            case INSTANT -> Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            case OFFSET_DATE_TIME -> {
+                long epochSecond = buffer.getLong();
+                int nano = buffer.getInt();
+                ZoneOffset offset = ZoneOffset.ofTotalSeconds(buffer.getInt());
+                yield OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), offset);
+            }
+            default -> throw new InvalidCursorException("Invalid cursor.");
+        };
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new InvalidCursorException("Invalid cursor.");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+}
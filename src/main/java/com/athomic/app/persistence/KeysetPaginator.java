@@ -0,0 +1,166 @@
+package com.athomic.app.persistence;
+
+import com.athomic.app.dto.response.CursorPage;
+import com.athomic.app.exception.InvalidCursorException;
+import com.athomic.app.util.Assert;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads JPA entities page by page with keyset (seek) pagination.
+ * <p>
+ * Each page is a single query ordered by the {@link Keyset}, restricted to the rows after the cursor and limited to
+ * {@code size + 1} rows; the extra row only tells whether there is a next page. Unlike {@code OFFSET}, which reads and
+ * discards every skipped row, the database seeks to the cursor through the index on the keyset attributes, so every
+ * page costs the same. Pages are stable under concurrent inserts and deletes: no row is skipped or repeated.
+ * </p>
+ * <p>
+ * The keyset attributes must be unique together (end with the id) and covered by an index in the same order and
+ * directions, e.g. {@code create index on orders (created_at, id)} for {@code Keyset.ascending("createdAt", "id")}.
+ * The optional filter is a JPQL condition on the alias {@value #ALIAS}, e.g. {@code e.status = :status}; its columns
+ * should lead the index.
+ * </p>
+ * <p>
+ * Cursors are not signed, so the decoded key values are checked against the types of the keyset attributes in the
+ * entity metamodel before they are bound; a forged cursor carrying values of another type is rejected like a
+ * malformed one.
+ * </p>
+ */
+@Component
+public class KeysetPaginator {
+
+    /**
+     * Alias of the paginated entity in filters.
+     */
+    public static final String ALIAS = "e";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Reads a page of entities.
+     *
+     * @param entityType the entity class
+     * @param keyset     the sort order
+     * @param cursor     the cursor returned with the previous page, or {@code null} for the first page
+     * @param size       the maximum number of entities in the page
+     * @param <T>        the entity type
+     * @return the page, whose next cursor is {@code null} on the last page
+     * @throws com.athomic.app.exception.InvalidCursorException if the cursor is malformed or was issued for another
+     *                                                          keyset
+     */
+    public <T> CursorPage<T> page(Class<T> entityType, Keyset keyset, String cursor, int size) {
+        return page(entityType, keyset, cursor, size, null, Map.of());
+    }
+
+    /**
+     * Reads a page of the entities matching a filter.
+     *
+     * @param entityType the entity class
+     * @param keyset     the sort order
+     * @param cursor     the cursor returned with the previous page, or {@code null} for the first page
+     * @param size       the maximum number of entities in the page
+     * @param filter     a JPQL condition on the alias {@value #ALIAS}, or {@code null}
+     * @param parameters the named parameters of the filter
+     * @param <T>        the entity type
+     * @return the page, whose next cursor is {@code null} on the last page
+     * @throws com.athomic.app.exception.InvalidCursorException if the cursor is malformed, was issued for another
+     *                                                          keyset or carries values of the wrong type
+     */
+    public <T> CursorPage<T> page(Class<T> entityType, Keyset keyset, String cursor, int size,
+                                  String filter, Map<String, ?> parameters) {
+        Assert.notNull(entityType, "entityType cannot be null.");
+        Assert.notNull(keyset, "keyset cannot be null.");
+        Assert.isTrue(size > 0, "size must be greater than 0.");
+        Assert.notNull(parameters, "parameters cannot be null.");
+
+        EntityType<T> entity = entityManager.getMetamodel().entity(entityType);
+        Object[] after = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            after = keyset.decode(cursor);
+            checkTypes(entity, keyset, after);
+        }
+
+        StringBuilder jpql = new StringBuilder("select ").append(ALIAS).append(", ")
+                .append(keyset.selection(ALIAS))
+                .append(" from ").append(entity.getName())
+                .append(' ').append(ALIAS);
+        if (filter != null && !filter.isBlank()) {
+            jpql.append(" where (").append(filter).append(')');
+        }
+        if (after != null) {
+            jpql.append(filter != null && !filter.isBlank() ? " and " : " where ").append(keyset.predicate(ALIAS));
+        }
+        jpql.append(" order by ").append(keyset.orderBy(ALIAS));
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        parameters.forEach(query::setParameter);
+        if (after != null) {
+            try {
+                keyset.parameters(after).forEach(query::setParameter);
+            } catch (IllegalArgumentException ex) {
+                // Types the metamodel check could not resolve, e.g. attributes of embeddables in collections
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+        }
+        List<Object[]> rows = query.setMaxResults(size + 1).getResultList();
+
+        int count = Math.min(rows.size(), size);
+        List<T> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(entityType.cast(rows.get(i)[0]));
+        }
+        String nextCursor = null;
+        if (rows.size() > size) {
+            Object[] last = rows.get(size - 1);
+            nextCursor = keyset.encode(Arrays.copyOfRange(last, 1, last.length));
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * Rejects key values whose type does not match the Java type of their keyset attribute.
+     */
+    private static void checkTypes(EntityType<?> entity, Keyset keyset, Object[] keyValues) {
+        List<Keyset.Column> columns = keyset.getColumns();
+        for (int i = 0; i < keyValues.length; i++) {
+            Class<?> type = attributeType(entity, columns.get(i).attribute());
+            if (type != null && !wrap(type).isInstance(keyValues[i])) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+        }
+    }
+
+    /**
+     * Returns the Java type of an attribute path, or {@code null} if it goes through something other than singular
+     * attributes of managed types.
+     */
+    private static Class<?> attributeType(ManagedType<?> entity, String path) {
+        ManagedType<?> current = entity;
+        String[] names = path.split("\\.");
+        for (int i = 0; i < names.length - 1; i++) {
+            if (!(current.getAttribute(names[i]) instanceof SingularAttribute<?, ?> attribute)
+                    || !(attribute.getType() instanceof ManagedType<?> managedType)) {
+                return null;
+            }
+            current = managedType;
+        }
+        return current.getAttribute(names[names.length - 1]).getJavaType();
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+}
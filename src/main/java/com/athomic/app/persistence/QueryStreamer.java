@@ -0,0 +1,172 @@
+package com.athomic.app.persistence;
+
+import com.athomic.app.util.Assert;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams JPA query results incrementally with a bounded fetch size and a bounded persistence context.
+ * <p>
+ * Results are read through a forward-only Hibernate cursor with {@code app.jpa.stream.fetch-size} rows per
+ * round-trip; the PostgreSQL driver only honours the fetch size with auto-commit off, so streams must be opened inside
+ * a transaction (typically {@code @Transactional(readOnly = true)}). Entities are loaded read-only and the persistence
+ * context is cleared every {@code app.jpa.stream.clear-interval} rows, so entities returned earlier become detached
+ * and the memory held by the session stays constant. Clearing detaches every managed entity, including those loaded
+ * before the stream was opened.
+ * </p>
+ * <p>
+ * The cursor is closed when the stream is closed, when it is exhausted, or at the latest when the surrounding
+ * transaction completes. Use the stream in a try-with-resources block. Streams are bound to the thread and
+ * transaction that opened them; when feeding a {@link com.athomic.app.web.JsonStreamingResponseBody}, open the
+ * transaction and the stream inside the body's {@code writeTo}.
+ * </p>
+ */
+@Component
+public class QueryStreamer {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+    private final int clearInterval;
+
+    public QueryStreamer(@Value("${app.jpa.stream.fetch-size:1000}") int fetchSize,
+                         @Value("${app.jpa.stream.clear-interval:1000}") int clearInterval) {
+        Assert.isTrue(fetchSize > 0, "fetchSize must be greater than 0.");
+        Assert.isTrue(clearInterval > 0, "clearInterval must be greater than 0.");
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * Streams the results of a JPQL query.
+     *
+     * @param jpql       the JPQL query
+     * @param resultType the type of the query results
+     * @param parameters the named parameters of the query
+     * @param <T>        the type of the query results
+     * @return a sequential {@link Stream} over the results, to be closed by the caller
+     * @throws IllegalStateException if no transaction is active
+     */
+    public <T> Stream<T> stream(String jpql, Class<T> resultType, Map<String, ?> parameters) {
+        Assert.hasText(jpql, "jpql cannot be empty.");
+        TypedQuery<T> query = entityManager.createQuery(jpql, resultType);
+        parameters.forEach(query::setParameter);
+        return stream(query);
+    }
+
+    /**
+     * Streams the results of a JPQL query without parameters.
+     *
+     * @param jpql       the JPQL query
+     * @param resultType the type of the query results
+     * @param <T>        the type of the query results
+     * @return a sequential {@link Stream} over the results, to be closed by the caller
+     * @throws IllegalStateException if no transaction is active
+     */
+    public <T> Stream<T> stream(String jpql, Class<T> resultType) {
+        return stream(jpql, resultType, Collections.emptyMap());
+    }
+
+    /**
+     * Streams the results of a prepared query.
+     *
+     * @param query the query, created from the transactional {@link EntityManager}
+     * @param <T>   the type of the query results
+     * @return a sequential {@link Stream} over the results, to be closed by the caller
+     * @throws IllegalStateException if no transaction is active
+     */
+    public <T> Stream<T> stream(TypedQuery<T> query) {
+        Assert.notNull(query, "query cannot be null.");
+        Assert.state(TransactionSynchronizationManager.isActualTransactionActive(),
+                "Streaming queries must run inside a transaction so the driver can use a cursor.");
+
+        @SuppressWarnings("unchecked")
+        Query<T> hibernateQuery = query.unwrap(Query.class);
+        ScrollableResults<T> results = hibernateQuery
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY);
+
+        CursorIterator<T> iterator = new CursorIterator<>(results, entityManager, clearInterval);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                iterator.close();
+            }
+        });
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private static final class CursorIterator<T> implements Iterator<T> {
+
+        private final ScrollableResults<T> results;
+        private final EntityManager entityManager;
+        private final int clearInterval;
+        private int sinceClear;
+        private boolean advanced;
+        private boolean hasNext;
+        private boolean closed;
+
+        private CursorIterator(ScrollableResults<T> results, EntityManager entityManager, int clearInterval) {
+            this.results = results;
+            this.entityManager = entityManager;
+            this.clearInterval = clearInterval;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!advanced) {
+                if (closed) {
+                    return false;
+                }
+                if (sinceClear == clearInterval) {
+                    entityManager.clear();
+                    sinceClear = 0;
+                }
+                hasNext = results.next();
+                advanced = true;
+                if (!hasNext) {
+                    close();
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            advanced = false;
+            sinceClear++;
+            return results.get();
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                results.close();
+            }
+        }
+    }
+
+}
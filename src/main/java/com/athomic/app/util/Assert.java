@@ -1,5 +1,6 @@
 package com.athomic.app.util;
 
+import com.athomic.app.exception.InvalidArgumentException;
 import org.springframework.lang.Nullable;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
@@ -36,85 +37,85 @@ public abstract class Assert {
 
     public static void isTrue(boolean expression, String message) {
         if (!expression) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void isTrue(boolean expression, Supplier<String> messageSupplier) {
         if (!expression) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
     public static void isNull(@Nullable Object object, String message) {
         if (object != null) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void isNull(@Nullable Object object, Supplier<String> messageSupplier) {
         if (object != null) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
     public static void notNull(@Nullable Object object, String message) {
         if (object == null) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void notNull(@Nullable Object object, Supplier<String> messageSupplier) {
         if (object == null) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
     public static void hasLength(@Nullable String text, String message) {
         if (!org.springframework.util.StringUtils.hasLength(text)) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void hasLength(@Nullable String text, Supplier<String> messageSupplier) {
         if (!org.springframework.util.StringUtils.hasLength(text)) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
     public static void hasText(@Nullable String text, String message) {
         if (!org.springframework.util.StringUtils.hasText(text)) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void hasText(@Nullable String text, Supplier<String> messageSupplier) {
         if (!org.springframework.util.StringUtils.hasText(text)) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
     public static void doesNotContain(@Nullable String textToSearch, String substring, String message) {
         if (org.springframework.util.StringUtils.hasLength(textToSearch) && org.springframework.util.StringUtils.hasLength(substring) && textToSearch.contains(substring)) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void doesNotContain(@Nullable String textToSearch, String substring, Supplier<String> messageSupplier) {
         if (org.springframework.util.StringUtils.hasLength(textToSearch) && org.springframework.util.StringUtils.hasLength(substring) && textToSearch.contains(substring)) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
     public static void notEmpty(@Nullable Object[] array, String message) {
         if (ObjectUtils.isEmpty(array)) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void notEmpty(@Nullable Object[] array, Supplier<String> messageSupplier) {
         if (ObjectUtils.isEmpty(array)) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
@@ -126,7 +127,7 @@ public abstract class Assert {
             for (int var4 = 0; var4 < var3; ++var4) {
                 Object element = var2[var4];
                 if (element == null) {
-                    throw new IllegalArgumentException(message);
+                    throw new InvalidArgumentException(message);
                 }
             }
         }
@@ -141,7 +142,7 @@ public abstract class Assert {
             for (int var4 = 0; var4 < var3; ++var4) {
                 Object element = var2[var4];
                 if (element == null) {
-                    throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+                    throw new InvalidArgumentException(nullSafeGet(messageSupplier));
                 }
             }
         }
@@ -150,13 +151,13 @@ public abstract class Assert {
 
     public static void notEmpty(@Nullable Collection<?> collection, String message) {
         if (CollectionUtils.isEmpty(collection)) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void notEmpty(@Nullable Collection<?> collection, Supplier<String> messageSupplier) {
         if (CollectionUtils.isEmpty(collection)) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
@@ -167,7 +168,7 @@ public abstract class Assert {
             while (var2.hasNext()) {
                 Object element = var2.next();
                 if (element == null) {
-                    throw new IllegalArgumentException(message);
+                    throw new InvalidArgumentException(message);
                 }
             }
         }
@@ -181,7 +182,7 @@ public abstract class Assert {
             while (var2.hasNext()) {
                 Object element = var2.next();
                 if (element == null) {
-                    throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+                    throw new InvalidArgumentException(nullSafeGet(messageSupplier));
                 }
             }
         }
@@ -190,13 +191,13 @@ public abstract class Assert {
 
     public static void notEmpty(@Nullable Map<?, ?> map, String message) {
         if (CollectionUtils.isEmpty(map)) {
-            throw new IllegalArgumentException(message);
+            throw new InvalidArgumentException(message);
         }
     }
 
     public static void notEmpty(@Nullable Map<?, ?> map, Supplier<String> messageSupplier) {
         if (CollectionUtils.isEmpty(map)) {
-            throw new IllegalArgumentException(nullSafeGet(messageSupplier));
+            throw new InvalidArgumentException(nullSafeGet(messageSupplier));
         }
     }
 
@@ -257,7 +258,7 @@ public abstract class Assert {
             result = result + "Object of class [" + className + "] must be an instance of " + type;
         }
 
-        throw new IllegalArgumentException(result);
+        throw new InvalidArgumentException(result);
     }
 
     private static void assignableCheckFailed(Class<?> superType, @Nullable Class<?> subType, @Nullable String msg) {
@@ -276,7 +277,7 @@ public abstract class Assert {
             result = result + subType + " is not assignable to " + superType;
         }
 
-        throw new IllegalArgumentException(result);
+        throw new InvalidArgumentException(result);
     }
 
     private static boolean endsWithSeparator(String msg) {
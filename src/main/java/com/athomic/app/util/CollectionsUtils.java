@@ -1,12 +1,19 @@
 package com.athomic.app.util;
 
+import com.athomic.app.util.primitive.IntList;
+import com.athomic.app.util.primitive.LongCollection;
+
 import java.util.Collection;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /**
  * Utility class for performing operations on {@link Collection} objects.
  * <p>
- * This abstract class provides static methods to safely handle collections and check their state.
+ * This abstract class provides static methods to safely handle collections and check their state. Overloads for the
+ * primitive collections of {@code com.athomic.app.util.primitive} return primitive streams, so their elements are
+ * never boxed.
  * </p>
  */
 public abstract class CollectionsUtils {
@@ -38,6 +45,32 @@ public abstract class CollectionsUtils {
                 : collection.stream();
     }
 
+    /**
+     * Returns a {@link LongStream} of the values in the collection, or an empty stream if the collection is
+     * {@code null}.
+     *
+     * @param collection the {@link LongCollection} to create a stream from
+     * @return a {@link LongStream} of values from the collection, or an empty {@link LongStream} if the collection is
+     * {@code null}
+     */
+    public static LongStream safeStream(LongCollection collection) {
+        return collection == null
+                ? LongStream.empty()
+                : collection.stream();
+    }
+
+    /**
+     * Returns an {@link IntStream} of the values in the list, or an empty stream if the list is {@code null}.
+     *
+     * @param list the {@link IntList} to create a stream from
+     * @return an {@link IntStream} of values from the list, or an empty {@link IntStream} if the list is {@code null}
+     */
+    public static IntStream safeStream(IntList list) {
+        return list == null
+                ? IntStream.empty()
+                : list.stream();
+    }
+
     /**
      * Checks if a collection is not {@code null} and not empty.
      * <p>
@@ -53,4 +86,14 @@ public abstract class CollectionsUtils {
         return collection != null && !collection.isEmpty();
     }
 
+    /**
+     * Checks if a primitive collection is not {@code null} and not empty.
+     *
+     * @param collection the {@link LongCollection} to check
+     * @return {@code true} if the collection is not {@code null} and not empty, {@code false} otherwise
+     */
+    public static boolean isNotEmpty(LongCollection collection) {
+        return collection != null && !collection.isEmpty();
+    }
+
 }
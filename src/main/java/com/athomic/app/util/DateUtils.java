@@ -1,13 +1,17 @@
 package com.athomic.app.util;
 
+import com.athomic.app.exception.InvalidArgumentException;
+
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 
 /**
  * Utility class for validating time intervals.
  * <p>
  * This class provides a method to validate whether a given time interval between two {@link LocalDateTime} instances
- * is within a specified maximum duration.
+ * is within a specified maximum duration, and a bulk variant that checks whole batches of epoch-millisecond intervals
+ * and reports every violation at once.
  * </p>
  */
 public class DateUtils {
@@ -46,8 +50,65 @@ public class DateUtils {
         long duration = unit.between(startTime, endTime);
 
         if (duration > maxDuration) {
-            throw new IllegalArgumentException("The time interval cannot be greater than " + maxDuration + " " + unit.toString().toLowerCase() + "(s).");
+            throw new InvalidArgumentException("The time interval cannot be greater than " + maxDuration + " " + unit.toString().toLowerCase() + "(s).");
+        }
+    }
+
+    /**
+     * Finds the intervals of a batch whose duration exceeds the maximum allowed duration.
+     * <p>
+     * This is the bulk counterpart of {@link #validateTimeInterval(LocalDateTime, LocalDateTime, long, ChronoUnit)}:
+     * interval {@code i} runs from {@code startEpochMillis[i]} to {@code endEpochMillis[i]} and is invalid if it
+     * contains more than {@code maxDuration} complete units of {@code unit}. As in the single-interval method, an end
+     * before its start is not a violation. Instead of throwing on the first violation, the indexes of all invalid
+     * intervals are returned.
+     * </p>
+     * <p>
+     * The check is a single branch-free pass over both arrays that packs 64 results into each word of the
+     * {@link BitSet}, so batches of hundreds of thousands of intervals are validated in microseconds. The difference
+     * {@code endEpochMillis[i] - startEpochMillis[i]} must fit in a {@code long}, which holds for any epoch
+     * timestamps within millions of years of 1970.
+     * </p>
+     *
+     * @param startEpochMillis the interval start times in epoch milliseconds (cannot be {@code null})
+     * @param endEpochMillis   the interval end times in epoch milliseconds (cannot be {@code null}, same length as
+     *                         {@code startEpochMillis})
+     * @param maxDuration      the maximum allowed duration for each interval, in units of {@code unit} (must be
+     *                         greater than 0)
+     * @param unit             the {@link ChronoUnit} used to measure the duration, from {@link ChronoUnit#MILLIS} to
+     *                         {@link ChronoUnit#DAYS} (cannot be {@code null})
+     * @return the indexes of the invalid intervals; empty if every interval is valid
+     * @throws IllegalArgumentException if an array or {@code unit} is {@code null}, the arrays differ in length,
+     *                                  {@code maxDuration} is less than or equal to 0 or {@code unit} is not supported
+     */
+    public static BitSet findInvalidTimeIntervals(long[] startEpochMillis, long[] endEpochMillis, long maxDuration, ChronoUnit unit) {
+        Assert.notNull(startEpochMillis, "startEpochMillis cannot be null.");
+        Assert.notNull(endEpochMillis, "endEpochMillis cannot be null.");
+        Assert.isTrue(startEpochMillis.length == endEpochMillis.length, "startEpochMillis and endEpochMillis must have the same length.");
+        Assert.notNull(unit, "unit cannot be null.");
+        Assert.isTrue(maxDuration > 0, "maxDuration must be greater than 0.");
+        Assert.isTrue(unit.compareTo(ChronoUnit.MILLIS) >= 0 && unit.compareTo(ChronoUnit.DAYS) <= 0,
+                "unit must be between MILLIS and DAYS.");
+
+        // An interval is invalid once it reaches maxDuration + 1 complete units, i.e. when it exceeds this many millis.
+        long unitMillis = unit.getDuration().toMillis();
+        long limit = maxDuration >= Long.MAX_VALUE / unitMillis - 1 ? Long.MAX_VALUE : (maxDuration + 1) * unitMillis - 1;
+
+        int length = startEpochMillis.length;
+        long[] words = new long[(length + 63) >>> 6];
+        for (int w = 0; w < words.length; w++) {
+            int base = w << 6;
+            int count = Math.min(64, length - base);
+            long word = 0L;
+            for (int bit = 0; bit < count; bit++) {
+                long duration = endEpochMillis[base + bit] - startEpochMillis[base + bit];
+                // Clamp end-before-start intervals to 0 so limit - duration cannot overflow when limit is saturated
+                duration &= ~(duration >> 63);
+                word |= ((limit - duration) >>> 63) << bit;
+            }
+            words[w] = word;
         }
+        return BitSet.valueOf(words);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package com.athomic.app.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of partition elements for {@link SpillingPartitioner}.
+ * <p>
+ * {@link #encode(Object, ByteBuffer)} writes one element at the buffer's position; if the buffer is too small it may
+ * throw {@link java.nio.BufferOverflowException} and will be called again with a larger buffer, so implementations
+ * must not keep state between calls. {@link #decode(ByteBuffer)} receives a buffer whose remaining bytes are exactly
+ * one encoded element.
+ * </p>
+ *
+ * @param <T> the type of elements
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Writes {@code element} at the current position of {@code buffer}.
+     *
+     * @param element the element to encode
+     * @param buffer  the destination buffer
+     */
+    void encode(T element, ByteBuffer buffer);
+
+    /**
+     * Reads one element from {@code buffer}.
+     *
+     * @param buffer a buffer holding exactly one encoded element
+     * @return the decoded element
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Returns a codec for non-null {@link Long} values, eight bytes each.
+     *
+     * @return a codec for {@link Long}
+     */
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(Long element, ByteBuffer buffer) {
+                buffer.putLong(element);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    /**
+     * Returns a codec for non-null {@link String} values, encoded as UTF-8.
+     *
+     * @return a codec for {@link String}
+     */
+    static ElementCodec<String> utf8() {
+        return new ElementCodec<>() {
+            @Override
+            public void encode(String element, ByteBuffer buffer) {
+                buffer.put(element.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                return StandardCharsets.UTF_8.decode(buffer).toString();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.athomic.app.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Fast parsing and printing of {@link LocalDateTime} in the {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} format.
+ * <p>
+ * The common fixed layout {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} with a four-digit year is handled by hand-written
+ * code that reads and writes characters directly, without the parsed-field maps and intermediate objects of
+ * {@link DateTimeFormatter}. Any other input (lower-case {@code t}, signed or five-digit years, malformed text) falls
+ * back to {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}, so results and error behaviour are identical to the JDK
+ * formatter.
+ * </p>
+ */
+public final class IsoDateTimes {
+
+    /**
+     * Maximum number of characters written by {@link #format(LocalDateTime, char[], int)} for any
+     * {@link LocalDateTime}, e.g. {@code +999999999-12-31T23:59:59.999999999}.
+     */
+    public static final int MAX_LENGTH = 35;
+
+    private static final int MAX_FIXED_LENGTH = 29;
+
+    private static final int[] FRACTION_SCALE = {
+            100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     * <p>
+     * Throws an {@link UnsupportedOperationException} to indicate that this class cannot be instantiated.
+     * </p>
+     */
+    private IsoDateTimes() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Parses an ISO-8601 local date-time such as {@code 2024-03-15T10:42:07.123}.
+     *
+     * @param text the text to parse (cannot be {@code null})
+     * @return the parsed {@link LocalDateTime}
+     * @throws DateTimeParseException if the text is not a valid ISO local date-time
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        Assert.notNull(text, "text cannot be null.");
+        LocalDateTime parsed = parseFixedLayout(text);
+        return parsed != null ? parsed : LocalDateTime.parse(text, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Formats a {@link LocalDateTime} exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does.
+     *
+     * @param value the value to format (cannot be {@code null})
+     * @return the formatted text
+     */
+    public static String format(LocalDateTime value) {
+        Assert.notNull(value, "value cannot be null.");
+        if (!isFastPathYear(value.getYear())) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+        }
+        char[] buffer = new char[MAX_FIXED_LENGTH];
+        return new String(buffer, 0, format(value, buffer, 0));
+    }
+
+    /**
+     * Writes a {@link LocalDateTime} into {@code buffer}, exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+     * formats it.
+     * <p>
+     * Values with a year outside {@code 0000-9999} are formatted by the JDK formatter and copied. The buffer must have
+     * room for {@link #MAX_LENGTH} characters from {@code offset}.
+     * </p>
+     *
+     * @param value  the value to format (cannot be {@code null})
+     * @param buffer the destination buffer
+     * @param offset the index of the first character to write
+     * @return the number of characters written
+     */
+    public static int format(LocalDateTime value, char[] buffer, int offset) {
+        int year = value.getYear();
+        if (!isFastPathYear(year)) {
+            String text = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+            text.getChars(0, text.length(), buffer, offset);
+            return text.length();
+        }
+
+        int pos = offset;
+        pos = writeDigits(buffer, pos, year / 100);
+        pos = writeDigits(buffer, pos, year % 100);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getMonthValue());
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getDayOfMonth());
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, value.getHour());
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getMinute());
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getSecond());
+
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[pos++] = '.';
+            for (int i = 0; nano > 0; i++) {
+                int digit = nano / FRACTION_SCALE[i];
+                buffer[pos++] = (char) ('0' + digit);
+                nano -= digit * FRACTION_SCALE[i];
+            }
+        }
+        return pos - offset;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm[:ss[.f...]]}, returning {@code null} whenever the text needs the JDK formatter,
+     * either because it uses another layout or because it is invalid (so that the JDK produces the error).
+     */
+    private static LocalDateTime parseFixedLayout(CharSequence text) {
+        int length = text.length();
+        if (length < 16 || length > MAX_FIXED_LENGTH
+                || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T' || text.charAt(13) != ':') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = 0;
+        int nano = 0;
+        if (length > 16) {
+            if (length < 19 || text.charAt(16) != ':') {
+                return null;
+            }
+            second = digits(text, 17, 2);
+            if (length > 19) {
+                if (length == 20 || text.charAt(19) != '.') {
+                    return null;
+                }
+                nano = fraction(text, 20, length);
+            }
+        }
+        if ((year | month | day | hour | minute | second | nano) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private static int digits(CharSequence text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int fraction(CharSequence text, int start, int end) {
+        int value = digits(text, start, end - start);
+        return value < 0 ? -1 : value * FRACTION_SCALE[end - start - 1];
+    }
+
+    private static int writeDigits(char[] buffer, int pos, int value) {
+        buffer[pos] = (char) ('0' + value / 10);
+        buffer[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    private static boolean isFastPathYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.athomic.app.util;
+
+import com.athomic.app.exception.PartitionExecutionException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Executes a function over the partitions of a collection in parallel.
+ * <p>
+ * The collection is split with a {@link PartitionStrategy} (for example {@code PartitionUtils::chunkPartition}) and
+ * every partition is submitted to the configured {@link ExecutorService}. Results are merged in partition order.
+ * <ul>
+ *     <li>Failure: the first partition that fails cancels every other partition and its exception is propagated.</li>
+ *     <li>Timeout: a partition that runs longer than the partition timeout is treated as a failure. The timeout is
+ *     measured from the moment the partition starts running, not from submission.</li>
+ *     <li>Cancellation: interrupting the calling thread cancels every pending and running partition.</li>
+ * </ul>
+ * Any {@link ExecutorService} can be used; on Java 21 a virtual-thread executor
+ * ({@code Executors.newVirtualThreadPerTaskExecutor()}) fits I/O-bound partition functions.
+ * </p>
+ */
+public final class ParallelPartitionExecutor implements AutoCloseable {
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+
+    private final ExecutorService executor;
+    private final long partitionTimeoutNanos;
+    private final boolean ownsExecutor;
+
+    /**
+     * Creates an executor backed by the given {@link ExecutorService}.
+     * <p>
+     * The {@link ExecutorService} is not shut down by {@link #close()}; its lifecycle stays with the caller.
+     * </p>
+     *
+     * @param executor         the {@link ExecutorService} used to run partitions (cannot be {@code null})
+     * @param partitionTimeout the maximum running time of a single partition (cannot be {@code null}, must be positive)
+     * @throws IllegalArgumentException if any argument is invalid
+     */
+    public ParallelPartitionExecutor(ExecutorService executor, Duration partitionTimeout) {
+        this(executor, partitionTimeout, false);
+    }
+
+    private ParallelPartitionExecutor(ExecutorService executor, Duration partitionTimeout, boolean ownsExecutor) {
+        Assert.notNull(executor, "executor cannot be null.");
+        Assert.notNull(partitionTimeout, "partitionTimeout cannot be null.");
+        Assert.isTrue(!partitionTimeout.isNegative() && !partitionTimeout.isZero(), "partitionTimeout must be positive.");
+        this.executor = executor;
+        this.partitionTimeoutNanos = partitionTimeout.toNanos();
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Creates an executor backed by a dedicated {@link ForkJoinPool} with the given parallelism.
+     * <p>
+     * The pool is owned by the returned executor and is shut down by {@link #close()}.
+     * </p>
+     *
+     * @param parallelism      the parallelism level of the pool (must be greater than 0)
+     * @param partitionTimeout the maximum running time of a single partition
+     * @return a new {@link ParallelPartitionExecutor}
+     */
+    public static ParallelPartitionExecutor forkJoin(int parallelism, Duration partitionTimeout) {
+        Assert.isTrue(parallelism > 0, "parallelism must be greater than 0.");
+        return new ParallelPartitionExecutor(new ForkJoinPool(parallelism), partitionTimeout, true);
+    }
+
+    /**
+     * Creates an executor backed by a dedicated {@link ForkJoinPool} using every available processor.
+     *
+     * @param partitionTimeout the maximum running time of a single partition
+     * @return a new {@link ParallelPartitionExecutor}
+     */
+    public static ParallelPartitionExecutor forkJoin(Duration partitionTimeout) {
+        return forkJoin(Runtime.getRuntime().availableProcessors(), partitionTimeout);
+    }
+
+    /**
+     * Partitions the collection and applies {@code task} to every partition in parallel.
+     *
+     * @param collection    the {@link Collection} to be processed
+     * @param numPartitions the number of partitions to create
+     * @param strategy      the {@link PartitionStrategy} used to split the collection
+     * @param task          the function applied to each partition
+     * @param <T>           the type of elements in the collection
+     * @param <R>           the type of the per-partition result
+     * @return the per-partition results, in partition order
+     * @throws PartitionExecutionException if a partition fails or times out
+     * @throws CancellationException       if the calling thread is interrupted while waiting
+     */
+    public <T, R> List<R> execute(Collection<T> collection, int numPartitions,
+                                  PartitionStrategy<T> strategy, Function<List<T>, R> task) {
+        Assert.notNull(strategy, "strategy cannot be null.");
+        Assert.notNull(task, "task cannot be null.");
+        return executePartitions(strategy.partition(collection, numPartitions), task);
+    }
+
+    /**
+     * Partitions the collection, applies {@code task} to every partition in parallel and concatenates the results.
+     *
+     * @param collection    the {@link Collection} to be processed
+     * @param numPartitions the number of partitions to create
+     * @param strategy      the {@link PartitionStrategy} used to split the collection
+     * @param task          the function applied to each partition
+     * @param <T>           the type of elements in the collection
+     * @param <R>           the type of the result elements
+     * @return the concatenation of the per-partition results, in partition order
+     * @throws PartitionExecutionException if a partition fails or times out
+     * @throws CancellationException       if the calling thread is interrupted while waiting
+     */
+    public <T, R> List<R> executeAndMerge(Collection<T> collection, int numPartitions,
+                                          PartitionStrategy<T> strategy, Function<List<T>, ? extends Collection<R>> task) {
+        List<? extends Collection<R>> results = execute(collection, numPartitions, strategy, task);
+        int size = 0;
+        for (Collection<R> result : results) {
+            size += result.size();
+        }
+        List<R> merged = new ArrayList<>(size);
+        for (Collection<R> result : results) {
+            merged.addAll(result);
+        }
+        return merged;
+    }
+
+    /**
+     * Shuts down the underlying pool if it was created by one of the factory methods.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T, R> List<R> executePartitions(List<List<T>> partitions, Function<List<T>, R> task) {
+        int count = partitions.size();
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+
+        CompletionService<Indexed<R>> completionService = new ExecutorCompletionService<>(executor);
+        AtomicLongArray startTimes = new AtomicLongArray(count);
+        List<Future<Indexed<R>>> futures = new ArrayList<>(count);
+
+        try {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                List<T> partition = partitions.get(i);
+                startTimes.set(i, NOT_STARTED);
+                futures.add(completionService.submit(() -> {
+                    startTimes.set(index, System.nanoTime());
+                    return new Indexed<>(index, task.apply(partition));
+                }));
+            }
+
+            Object[] results = new Object[count];
+            boolean[] done = new boolean[count];
+            for (int pending = count; pending > 0; ) {
+                Future<Indexed<R>> completed = completionService.poll(nextWaitNanos(startTimes, done), TimeUnit.NANOSECONDS);
+                if (completed != null) {
+                    Indexed<R> result = getResult(completed, futures);
+                    results[result.index] = result.value;
+                    done[result.index] = true;
+                    pending--;
+                } else {
+                    checkTimeouts(startTimes, done);
+                }
+            }
+
+            @SuppressWarnings("unchecked")
+            List<R> ordered = (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+            return ordered;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            CancellationException cancellation = new CancellationException("Partition execution was interrupted.");
+            cancellation.initCause(ex);
+            throw cancellation;
+        } finally {
+            cancelAll(futures);
+        }
+    }
+
+    private <R> Indexed<R> getResult(Future<Indexed<R>> completed, List<Future<Indexed<R>>> futures)
+            throws InterruptedException {
+        try {
+            return completed.get();
+        } catch (ExecutionException ex) {
+            int index = futures.indexOf(completed);
+            throw new PartitionExecutionException(index, "Partition " + index + " failed.", ex.getCause());
+        }
+    }
+
+    private long nextWaitNanos(AtomicLongArray startTimes, boolean[] done) {
+        long now = System.nanoTime();
+        long wait = partitionTimeoutNanos;
+        for (int i = 0; i < done.length; i++) {
+            long start = startTimes.get(i);
+            if (!done[i] && start != NOT_STARTED) {
+                wait = Math.min(wait, start + partitionTimeoutNanos - now);
+            }
+        }
+        return Math.max(wait, 0L);
+    }
+
+    private void checkTimeouts(AtomicLongArray startTimes, boolean[] done) {
+        long now = System.nanoTime();
+        for (int i = 0; i < done.length; i++) {
+            long start = startTimes.get(i);
+            if (!done[i] && start != NOT_STARTED && now - start >= partitionTimeoutNanos) {
+                throw new PartitionExecutionException(i, "Partition " + i + " timed out.",
+                        new TimeoutException("Partition exceeded " + Duration.ofNanos(partitionTimeoutNanos) + "."));
+            }
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private record Indexed<R>(int index, R value) {
+    }
+
+}
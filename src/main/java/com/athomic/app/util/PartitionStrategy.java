@@ -0,0 +1,27 @@
+package com.athomic.app.util;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Strategy for splitting a collection into a number of partitions.
+ * <p>
+ * The partitioning methods in {@link PartitionUtils} match this signature, so they can be passed as method references
+ * (for example {@code PartitionUtils::chunkPartition}).
+ * </p>
+ *
+ * @param <T> the type of elements in the collection
+ */
+@FunctionalInterface
+public interface PartitionStrategy<T> {
+
+    /**
+     * Partitions the given collection into {@code numPartitions} partitions.
+     *
+     * @param collection    the {@link Collection} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @return a {@link List} of {@link List}s, where each inner {@link List} represents a partition
+     */
+    List<List<T>> partition(Collection<T> collection, int numPartitions);
+
+}
@@ -1,6 +1,14 @@
 package com.athomic.app.util;
 
+import com.athomic.app.util.primitive.LongCollection;
+import com.athomic.app.util.primitive.LongList;
+
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for partitioning collections into multiple partitions.
@@ -9,12 +17,26 @@ import java.util.*;
  * <ul>
  *     <li>Chunk Partitioning: Splits the collection into a specified number of partitions with approximately equal size.</li>
  *     <li>Round-Robin Partitioning: Distributes elements of the collection evenly across the specified number of partitions.</li>
+ *     <li>Hash Partitioning: Places every element in the partition selected by the hash of its key, so elements with
+ *     the same key always land together.</li>
+ *     <li>Consistent-Hash Partitioning: Like hash partitioning, but changing the number of partitions only moves a
+ *     small fraction of the keys.</li>
+ *     <li>Weighted Partitioning: Balances the total cost of each partition instead of its element count.</li>
+ *     <li>Partition Views: Same layouts as above, backed by the source {@link List} instead of copies.</li>
+ *     <li>Streaming Chunks: Lazily groups an {@link Iterator} or {@link Stream} of unknown length into fixed-size chunks.</li>
+ *     <li>Primitive Partitioning: Chunk, round-robin and hash partitioning of {@code long} ids held in a
+ *     {@link LongList} or other {@link LongCollection}, without boxing.</li>
  * </ul>
  * This class is final and cannot be instantiated.
  * </p>
  */
 public final class PartitionUtils {
 
+    /**
+     * Number of points each partition owns on the consistent-hash ring.
+     */
+    private static final int VIRTUAL_NODES = 64;
+
     /**
      * Private constructor to prevent instantiation of the utility class.
      * <p>
@@ -74,10 +96,7 @@ public final class PartitionUtils {
 
         validateInputs(collection, numPartitions);
 
-        List<List<T>> partitions = new ArrayList<>(numPartitions);
-        for (int i = 0; i < numPartitions; i++) {
-            partitions.add(new ArrayList<>());
-        }
+        List<List<T>> partitions = emptyPartitions(numPartitions);
 
         int index = 0;
         for (T item : collection) {
@@ -88,6 +107,404 @@ public final class PartitionUtils {
         return Collections.unmodifiableList(partitions);
     }
 
+    /**
+     * Partitions a collection by the hash of a key extracted from each element.
+     * <p>
+     * All elements with equal keys are placed in the same partition, so each partition can be processed without
+     * coordinating with the others. Elements keep their encounter order within a partition. The partition of a key
+     * is given by {@link #partitionIndex(Object, int)}.
+     * </p>
+     *
+     * @param collection    the {@link Collection} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @param keyExtractor  the function extracting the partitioning key of an element ({@code null} keys are allowed)
+     * @param <T>           the type of elements in the collection
+     * @param <K>           the type of the key
+     * @return a {@link List} of {@link List}s, where each inner {@link List} represents a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code collection}
+     *                                  or {@code keyExtractor} is null
+     */
+    public static <T, K> List<List<T>> hashPartition(Collection<T> collection, int numPartitions,
+                                                     Function<? super T, K> keyExtractor) {
+
+        validateInputs(collection, numPartitions);
+        Assert.notNull(keyExtractor, "The key extractor cannot be null.");
+
+        List<List<T>> partitions = emptyPartitions(numPartitions);
+        for (T item : collection) {
+            partitions.get(partitionIndex(keyExtractor.apply(item), numPartitions)).add(item);
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions a collection by a key extracted from each element using a consistent-hash ring.
+     * <p>
+     * Like {@link #hashPartition(Collection, int, Function)}, all elements with equal keys are placed in the same
+     * partition. In addition, when {@code numPartitions} grows from {@code n} to {@code n + 1} only about
+     * {@code 1 / (n + 1)} of the keys move to a different partition, which keeps per-partition state (caches, open
+     * cursors, lanes) mostly valid across resizing.
+     * </p>
+     *
+     * @param collection    the {@link Collection} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @param keyExtractor  the function extracting the partitioning key of an element ({@code null} keys are allowed)
+     * @param <T>           the type of elements in the collection
+     * @param <K>           the type of the key
+     * @return a {@link List} of {@link List}s, where each inner {@link List} represents a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code collection}
+     *                                  or {@code keyExtractor} is null
+     */
+    public static <T, K> List<List<T>> consistentHashPartition(Collection<T> collection, int numPartitions,
+                                                               Function<? super T, K> keyExtractor) {
+
+        validateInputs(collection, numPartitions);
+        Assert.notNull(keyExtractor, "The key extractor cannot be null.");
+
+        long[] ring = buildRing(numPartitions);
+        List<List<T>> partitions = emptyPartitions(numPartitions);
+        for (T item : collection) {
+            int hash = mix(Objects.hashCode(keyExtractor.apply(item)));
+            partitions.get(ringLookup(ring, hash)).add(item);
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions a collection so that the total weight of every partition is as even as possible.
+     * <p>
+     * Elements are assigned heaviest first to the currently lightest partition (Longest Processing Time first), which
+     * bounds the heaviest partition to at most 4/3 of the optimum. This keeps a few expensive elements from turning a
+     * single partition into the straggler. Elements keep their encounter order within a partition.
+     * </p>
+     *
+     * @param collection    the {@link Collection} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @param weigher       the function returning the cost of an element (must not be negative)
+     * @param <T>           the type of elements in the collection
+     * @return a {@link List} of {@link List}s, where each inner {@link List} represents a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, if {@code collection} or
+     *                                  {@code weigher} is null, or if a weight is negative
+     */
+    public static <T> List<List<T>> weightedPartition(Collection<T> collection, int numPartitions,
+                                                      ToLongFunction<? super T> weigher) {
+
+        validateInputs(collection, numPartitions);
+        Assert.notNull(weigher, "The weigher cannot be null.");
+
+        List<T> items = new ArrayList<>(collection);
+        int size = items.size();
+        long[] weights = new long[size];
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            long weight = weigher.applyAsLong(items.get(i));
+            Assert.isTrue(weight >= 0, "Weights cannot be negative.");
+            weights[i] = weight;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(weights[b], weights[a]));
+
+        long[] loads = new long[numPartitions];
+        PriorityQueue<Integer> lightest = new PriorityQueue<>(numPartitions,
+                (a, b) -> loads[a] != loads[b] ? Long.compare(loads[a], loads[b]) : Integer.compare(a, b));
+        for (int i = 0; i < numPartitions; i++) {
+            lightest.add(i);
+        }
+
+        int[] assignment = new int[size];
+        for (Integer index : order) {
+            int partition = lightest.poll();
+            assignment[index] = partition;
+            loads[partition] += weights[index];
+            lightest.add(partition);
+        }
+
+        List<List<T>> partitions = emptyPartitions(numPartitions);
+        for (int i = 0; i < size; i++) {
+            partitions.get(assignment[i]).add(items.get(i));
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Returns the partition that {@link #hashPartition(Collection, int, Function)} assigns to a key.
+     * <p>
+     * The key's {@link Object#hashCode()} is re-mixed before the modulo, so keys with poorly distributed hash codes
+     * (sequential ids, for example) still spread evenly.
+     * </p>
+     *
+     * @param key           the key ({@code null} is allowed)
+     * @param numPartitions the number of partitions (must be greater than 0)
+     * @return the partition index, between {@code 0} (inclusive) and {@code numPartitions} (exclusive)
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0
+     */
+    public static int partitionIndex(Object key, int numPartitions) {
+        Assert.isTrue(numPartitions > 0, "The number of partitions must be greater than 0.");
+        return Math.floorMod(mix(Objects.hashCode(key)), numPartitions);
+    }
+
+    /**
+     * Returns the partition that {@link #hashPartition(LongCollection, int)} assigns to a primitive key.
+     * <p>
+     * The result is the same as {@link #partitionIndex(Object, int)} for the boxed {@link Long}, so primitive and boxed
+     * ids are routed consistently.
+     * </p>
+     *
+     * @param key           the key
+     * @param numPartitions the number of partitions (must be greater than 0)
+     * @return the partition index, between {@code 0} (inclusive) and {@code numPartitions} (exclusive)
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0
+     */
+    public static int partitionIndex(long key, int numPartitions) {
+        Assert.isTrue(numPartitions > 0, "The number of partitions must be greater than 0.");
+        return Math.floorMod(mix(Long.hashCode(key)), numPartitions);
+    }
+
+    /**
+     * Partitions a {@link LongList} into a specified number of contiguous chunks.
+     * <p>
+     * The partitions have the same layout as {@link #chunkPartition(Collection, int)}; each one is a copy of a range
+     * of the source array.
+     * </p>
+     *
+     * @param list          the {@link LongList} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @return a {@link List} of {@link LongList}s, where each inner list represents a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code list} is null
+     */
+    public static List<LongList> chunkPartition(LongList list, int numPartitions) {
+        validateInputs(list, numPartitions);
+
+        List<LongList> partitions = new ArrayList<>(numPartitions);
+        int size = list.size();
+        int partitionSize = (size + numPartitions - 1) / numPartitions;
+        for (int i = 0; i < numPartitions; i++) {
+            int from = Math.min(size, i * partitionSize);
+            partitions.add(list.copyOfRange(from, Math.min(size, from + partitionSize)));
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions a {@link LongList} into a specified number of partitions using round-robin distribution.
+     *
+     * @param list          the {@link LongList} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @return a {@link List} of {@link LongList}s, where each inner list represents a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code list} is null
+     * @see #roundRobinPartition(Collection, int)
+     */
+    public static List<LongList> roundRobinPartition(LongList list, int numPartitions) {
+        validateInputs(list, numPartitions);
+
+        List<LongList> partitions = emptyLongPartitions(numPartitions, (list.size() + numPartitions - 1) / numPartitions);
+        for (int i = 0, size = list.size(); i < size; i++) {
+            partitions.get(i % numPartitions).add(list.get(i));
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions primitive ids by their hash, so equal ids always land in the same partition.
+     * <p>
+     * The partition of an id is given by {@link #partitionIndex(long, int)}, which matches the partition the boxed id
+     * gets from {@link #hashPartition(Collection, int, Function)} with an identity key extractor.
+     * </p>
+     *
+     * @param values        the ids to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @return a {@link List} of {@link LongList}s, where each inner list represents a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code values} is null
+     */
+    public static List<LongList> hashPartition(LongCollection values, int numPartitions) {
+        validateInputs(values, numPartitions);
+
+        List<LongList> partitions = emptyLongPartitions(numPartitions, 0);
+        values.forEach(value -> partitions.get(partitionIndex(value, numPartitions)).add(value));
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions a list into a specified number of contiguous chunks without copying its elements.
+     * <p>
+     * The partitions have the same layout as {@link #chunkPartition(Collection, int)}. When the list implements
+     * {@link RandomAccess} every partition is a {@link List#subList(int, int)} view of the source list, so no element is
+     * copied; other lists fall back to {@link #chunkPartition(Collection, int)}. The views reflect later changes to the
+     * source list and become invalid if its size changes.
+     * </p>
+     *
+     * @param list          the {@link List} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @param <T>           the type of elements in the list
+     * @return a {@link List} of {@link List}s, where each inner {@link List} is a read-only view of a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code list} is null
+     */
+    public static <T> List<List<T>> chunkPartitionView(List<T> list, int numPartitions) {
+
+        validateInputs(list, numPartitions);
+
+        if (!(list instanceof RandomAccess)) {
+            return chunkPartition(list, numPartitions);
+        }
+
+        List<List<T>> partitions = new ArrayList<>(numPartitions);
+        int size = list.size();
+        int partitionSize = (int) Math.ceil((double) size / numPartitions);
+
+        for (int i = 0; i < numPartitions; i++) {
+            int from = (int) Math.min((long) i * partitionSize, size);
+            int to = (int) Math.min((long) from + partitionSize, size);
+            partitions.add(Collections.unmodifiableList(list.subList(from, to)));
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Partitions a list into a specified number of round-robin partitions without copying its elements.
+     * <p>
+     * The partitions have the same layout as {@link #roundRobinPartition(Collection, int)}. When the list implements
+     * {@link RandomAccess} every partition is a strided read-only view of the source list (partition {@code i} holds
+     * the elements at indexes {@code i}, {@code i + numPartitions}, ...); other lists fall back to
+     * {@link #roundRobinPartition(Collection, int)}.
+     * </p>
+     *
+     * @param list          the {@link List} to be partitioned
+     * @param numPartitions the number of partitions to create
+     * @param <T>           the type of elements in the list
+     * @return a {@link List} of {@link List}s, where each inner {@link List} is a read-only view of a partition
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code list} is null
+     */
+    public static <T> List<List<T>> roundRobinPartitionView(List<T> list, int numPartitions) {
+
+        validateInputs(list, numPartitions);
+
+        if (!(list instanceof RandomAccess)) {
+            return roundRobinPartition(list, numPartitions);
+        }
+
+        List<List<T>> partitions = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            partitions.add(new StridedList<>(list, i, numPartitions));
+        }
+
+        return Collections.unmodifiableList(partitions);
+    }
+
+    /**
+     * Lazily groups the elements of an {@link Iterator} into chunks of a fixed size.
+     * <p>
+     * Only one chunk is held in memory at a time, so the source can be of unknown or unbounded length. Every chunk has
+     * {@code chunkSize} elements except possibly the last one.
+     * </p>
+     *
+     * @param iterator  the {@link Iterator} supplying the elements
+     * @param chunkSize the maximum number of elements per chunk
+     * @param <T>       the type of elements
+     * @return an {@link Iterator} over the chunks
+     * @throws IllegalArgumentException if {@code chunkSize} is less than or equal to 0, or if {@code iterator} is null
+     */
+    public static <T> Iterator<List<T>> chunked(Iterator<T> iterator, int chunkSize) {
+        Assert.notNull(iterator, "The iterator cannot be null.");
+        Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                }
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Lazily groups the elements of a {@link Stream} into chunks of a fixed size.
+     * <p>
+     * The returned stream pulls from the source only as chunks are consumed and closes the source stream when it is
+     * closed. Every chunk has {@code chunkSize} elements except possibly the last one.
+     * </p>
+     *
+     * @param stream    the {@link Stream} supplying the elements
+     * @param chunkSize the maximum number of elements per chunk
+     * @param <T>       the type of elements
+     * @return a sequential {@link Stream} of chunks
+     * @throws IllegalArgumentException if {@code chunkSize} is less than or equal to 0, or if {@code stream} is null
+     */
+    public static <T> Stream<List<T>> chunked(Stream<T> stream, int chunkSize) {
+        Assert.notNull(stream, "The stream cannot be null.");
+        Assert.isTrue(chunkSize > 0, "The chunk size must be greater than 0.");
+        return StreamSupport.stream(new ChunkSpliterator<>(stream.spliterator(), chunkSize), false)
+                .onClose(stream::close);
+    }
+
+    private static <T> List<List<T>> emptyPartitions(int numPartitions) {
+        List<List<T>> partitions = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        return partitions;
+    }
+
+    private static List<LongList> emptyLongPartitions(int numPartitions, int initialCapacity) {
+        List<LongList> partitions = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            partitions.add(new LongList(initialCapacity));
+        }
+        return partitions;
+    }
+
+    /**
+     * Builds a sorted consistent-hash ring. Each entry packs the point hash in the high 32 bits and the owning
+     * partition in the low 32 bits.
+     */
+    private static long[] buildRing(int numPartitions) {
+        long[] ring = new long[numPartitions * VIRTUAL_NODES];
+        for (int partition = 0; partition < numPartitions; partition++) {
+            for (int node = 0; node < VIRTUAL_NODES; node++) {
+                int point = mix(partition * 0x9E3779B9 + mix(node + 1));
+                ring[partition * VIRTUAL_NODES + node] = ((long) point << 32) | partition;
+            }
+        }
+        Arrays.sort(ring);
+        return ring;
+    }
+
+    private static int ringLookup(long[] ring, int hash) {
+        int index = Arrays.binarySearch(ring, (long) hash << 32);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return (int) ring[index == ring.length ? 0 : index];
+    }
+
+    /**
+     * Murmur3 32-bit finalizer.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
     /**
      * Validates the inputs for partitioning methods.
      * <p>
@@ -108,4 +525,80 @@ public final class PartitionUtils {
         }
     }
 
+    private static void validateInputs(LongCollection values, int numPartitions) {
+        Assert.isTrue(numPartitions > 0, "The number of partitions must be greater than 0.");
+        Assert.notNull(values, "The collection cannot be null.");
+    }
+
+    /**
+     * Read-only view over every {@code stride}-th element of a {@link RandomAccess} list, starting at {@code offset}.
+     */
+    private static final class StridedList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final List<T> source;
+        private final int offset;
+        private final int stride;
+
+        private StridedList(List<T> source, int offset, int stride) {
+            this.source = source;
+            this.offset = offset;
+            this.stride = stride;
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, size());
+            return source.get(offset + index * stride);
+        }
+
+        @Override
+        public int size() {
+            int remaining = source.size() - offset;
+            return remaining <= 0 ? 0 : (remaining + stride - 1) / stride;
+        }
+    }
+
+    /**
+     * {@link Spliterator} that groups the elements of a source spliterator into fixed-size chunks on demand.
+     */
+    private static final class ChunkSpliterator<T> implements Spliterator<List<T>> {
+
+        private final Spliterator<T> source;
+        private final int chunkSize;
+
+        private ChunkSpliterator(Spliterator<T> source, int chunkSize) {
+            this.source = source;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<T>> action) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && source.tryAdvance(chunk::add)) {
+                // keep pulling until the chunk is full or the source is exhausted
+            }
+            if (chunk.isEmpty()) {
+                return false;
+            }
+            action.accept(chunk);
+            return true;
+        }
+
+        @Override
+        public Spliterator<List<T>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = source.estimateSize();
+            return size == Long.MAX_VALUE ? size : (size + chunkSize - 1) / chunkSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+    }
+
 }
@@ -0,0 +1,108 @@
+package com.athomic.app.util;
+
+import com.athomic.app.exception.TooManyRequestsException;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces concurrent computations of the same key into a single in-flight call.
+ * <p>
+ * The first caller of a key runs the loader; callers arriving while it runs wait for it and receive the same result,
+ * or the same exception instance, instead of repeating the work. Once the call completes the key is released, so
+ * later callers start a new computation: this removes thundering herds without caching anything.
+ * </p>
+ * <p>
+ * At most {@code maxWaiters} callers may wait on a single call. Further callers are shed with a
+ * {@link TooManyRequestsException} rather than piling up threads behind a slow computation. A loader must not
+ * execute the same key again on the same {@link SingleFlight}, since it would wait for itself.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public class SingleFlight<K, V> {
+
+    private final int maxWaiters;
+    private final ConcurrentMap<K, Call<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link SingleFlight}.
+     *
+     * @param maxWaiters the maximum number of callers waiting on one in-flight call (cannot be negative)
+     */
+    public SingleFlight(int maxWaiters) {
+        Assert.isTrue(maxWaiters >= 0, "maxWaiters cannot be negative.");
+        this.maxWaiters = maxWaiters;
+    }
+
+    /**
+     * Returns the result of {@code loader}, sharing the call in flight for {@code key} if there is one.
+     *
+     * @param key    the key identifying the computation (cannot be {@code null})
+     * @param loader the computation to run if no call is in flight (cannot be {@code null})
+     * @return the result of the call
+     * @throws TooManyRequestsException if {@code maxWaiters} callers are already waiting for the key
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws Exception                the exception thrown by the loader
+     */
+    public V execute(K key, Callable<? extends V> loader) throws Exception {
+        Assert.notNull(key, "key cannot be null.");
+        Assert.notNull(loader, "loader cannot be null.");
+
+        Call<V> call = new Call<>();
+        Call<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            V value = loader.call();
+            calls.remove(key, call);
+            call.result.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            calls.remove(key, call);
+            call.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     *
+     * @return the number of keys being computed
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private V await(Call<V> call) throws Exception {
+        if (call.waiters.incrementAndGet() > maxWaiters) {
+            throw new TooManyRequestsException(1);
+        }
+        try {
+            return call.result.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new UndeclaredThrowableException(cause);
+        }
+    }
+
+    private static final class Call<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+}
@@ -0,0 +1,493 @@
+package com.athomic.app.util;
+
+import com.athomic.app.util.primitive.LongList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Chunk partitioner that moves large inputs off the heap.
+ * <p>
+ * Inputs with at most {@code spillThreshold} elements are partitioned on the heap with
+ * {@link PartitionUtils#chunkPartition(Collection, int)}. Larger inputs are encoded with an {@link ElementCodec} into a
+ * temporary file, through a direct buffer, as length-prefixed records. The partitions then read and decode their
+ * elements lazily, so the heap only holds one read buffer per open iterator plus a small index (one offset per
+ * {@value #INDEX_INTERVAL} elements), however large the input is. The file is deleted when the returned
+ * {@link Partitions} are closed.
+ * </p>
+ * <p>
+ * The partitions have the same layout as {@link PartitionUtils#chunkPartition(Collection, int)} in both modes, and
+ * their iterators can be consumed concurrently, for example one partition per worker thread.
+ * </p>
+ *
+ * @param <T> the type of elements
+ */
+public final class SpillingPartitioner<T> {
+
+    /**
+     * Size of the direct buffers used to write and read the spill file.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Number of records between two entries of the offset index.
+     */
+    private static final int INDEX_INTERVAL = 1024;
+
+    private final ElementCodec<T> codec;
+    private final int spillThreshold;
+    private final Path directory;
+
+    /**
+     * Creates a partitioner that spills to the default temporary-file directory.
+     *
+     * @param codec          the codec used to encode spilled elements (cannot be {@code null})
+     * @param spillThreshold the largest number of elements partitioned on the heap (must not be negative)
+     */
+    public SpillingPartitioner(ElementCodec<T> codec, int spillThreshold) {
+        this(codec, spillThreshold, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Creates a partitioner that spills to the given directory.
+     *
+     * @param codec          the codec used to encode spilled elements (cannot be {@code null})
+     * @param spillThreshold the largest number of elements partitioned on the heap (must not be negative)
+     * @param directory      the directory for spill files (cannot be {@code null})
+     */
+    public SpillingPartitioner(ElementCodec<T> codec, int spillThreshold, Path directory) {
+        Assert.notNull(codec, "codec cannot be null.");
+        Assert.isTrue(spillThreshold >= 0, "spillThreshold must not be negative.");
+        Assert.notNull(directory, "directory cannot be null.");
+        this.codec = codec;
+        this.spillThreshold = spillThreshold;
+        this.directory = directory;
+    }
+
+    /**
+     * Partitions a collection into a specified number of chunks, spilling it to disk if it is larger than the
+     * threshold.
+     * <p>
+     * Once this method returns, the partitions no longer reference the collection, so the caller can drop it.
+     * </p>
+     *
+     * @param collection    the {@link Collection} to be partitioned (cannot be {@code null})
+     * @param numPartitions the number of partitions to create (must be greater than 0)
+     * @return the partitions, which must be closed
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code collection} is null
+     * @throws UncheckedIOException     if the spill file cannot be written
+     */
+    public Partitions<T> chunkPartition(Collection<T> collection, int numPartitions) {
+        Assert.notNull(collection, "The collection cannot be null.");
+        Assert.isTrue(numPartitions > 0, "The number of partitions must be greater than 0.");
+
+        if (collection.size() <= spillThreshold) {
+            return new HeapPartitions<>(PartitionUtils.chunkPartition(collection, numPartitions));
+        }
+        return spill(Collections.emptyList(), collection.iterator(), numPartitions);
+    }
+
+    /**
+     * Partitions the elements of an iterator into a specified number of chunks.
+     * <p>
+     * Up to {@code spillThreshold} elements are buffered on the heap; if the iterator has more, the buffered elements
+     * and the rest of the iterator are spilled to disk. This keeps the heap bounded for sources of unknown size, such
+     * as a query result stream.
+     * </p>
+     *
+     * @param iterator      the {@link Iterator} supplying the elements (cannot be {@code null})
+     * @param numPartitions the number of partitions to create (must be greater than 0)
+     * @return the partitions, which must be closed
+     * @throws IllegalArgumentException if {@code numPartitions} is less than or equal to 0, or if {@code iterator} is null
+     * @throws UncheckedIOException     if the spill file cannot be written
+     */
+    public Partitions<T> chunkPartition(Iterator<T> iterator, int numPartitions) {
+        Assert.notNull(iterator, "iterator cannot be null.");
+        Assert.isTrue(numPartitions > 0, "The number of partitions must be greater than 0.");
+
+        List<T> buffered = new ArrayList<>();
+        while (buffered.size() <= spillThreshold && iterator.hasNext()) {
+            buffered.add(iterator.next());
+        }
+        if (buffered.size() <= spillThreshold) {
+            return new HeapPartitions<>(PartitionUtils.chunkPartition(buffered, numPartitions));
+        }
+        return spill(buffered, iterator, numPartitions);
+    }
+
+    private Partitions<T> spill(Collection<T> head, Iterator<T> tail, int numPartitions) {
+        FileChannel channel = null;
+        try {
+            Path file = Files.createTempFile(directory, "partition-", ".spill");
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            SpillWriter<T> writer = new SpillWriter<>(channel, codec);
+            for (T element : head) {
+                writer.append(element);
+            }
+            while (tail.hasNext()) {
+                writer.append(tail.next());
+            }
+            writer.flush();
+            return new SpilledPartitions<>(channel, codec, writer.count, writer.index, numPartitions);
+        } catch (IOException ex) {
+            closeQuietly(channel, ex);
+            throw new UncheckedIOException("Could not spill partition input to " + directory + ".", ex);
+        } catch (RuntimeException | Error ex) {
+            closeQuietly(channel, ex);
+            throw ex;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel, Throwable failure) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                failure.addSuppressed(ex);
+            }
+        }
+    }
+
+    /**
+     * Partitions produced by a {@link SpillingPartitioner}.
+     * <p>
+     * Partitions are indexed from {@code 0} to {@link #size()} (exclusive). Iterators must not be used after
+     * {@link #close()}.
+     * </p>
+     *
+     * @param <T> the type of elements
+     */
+    public interface Partitions<T> extends AutoCloseable {
+
+        /**
+         * Returns the number of partitions.
+         *
+         * @return the number of partitions
+         */
+        int size();
+
+        /**
+         * Returns the number of elements in a partition.
+         *
+         * @param index the partition index
+         * @return the number of elements in the partition
+         */
+        long partitionSize(int index);
+
+        /**
+         * Returns a new iterator over the elements of a partition, decoding them lazily when spilled.
+         *
+         * @param index the partition index
+         * @return an {@link Iterator} over the partition
+         */
+        Iterator<T> iterator(int index);
+
+        /**
+         * Returns a partition as an {@link Iterable}; every call to {@link Iterable#iterator()} starts a new pass.
+         *
+         * @param index the partition index
+         * @return the partition
+         */
+        default Iterable<T> get(int index) {
+            Objects.checkIndex(index, size());
+            return () -> iterator(index);
+        }
+
+        /**
+         * Returns whether the elements were spilled to disk.
+         *
+         * @return {@code true} if the partitions read from a spill file
+         */
+        boolean isSpilled();
+
+        /**
+         * Releases the spill file, if any.
+         *
+         * @throws UncheckedIOException if the spill file cannot be closed
+         */
+        @Override
+        void close();
+    }
+
+    private static final class HeapPartitions<T> implements Partitions<T> {
+
+        private final List<List<T>> partitions;
+
+        private HeapPartitions(List<List<T>> partitions) {
+            this.partitions = partitions;
+        }
+
+        @Override
+        public int size() {
+            return partitions.size();
+        }
+
+        @Override
+        public long partitionSize(int index) {
+            return partitions.get(index).size();
+        }
+
+        @Override
+        public Iterator<T> iterator(int index) {
+            return partitions.get(index).iterator();
+        }
+
+        @Override
+        public boolean isSpilled() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+    }
+
+    /**
+     * Appends length-prefixed records to the spill file through a direct buffer and records the file offset of every
+     * {@value #INDEX_INTERVAL}-th record.
+     */
+    private static final class SpillWriter<T> {
+
+        private final FileChannel channel;
+        private final ElementCodec<T> codec;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final LongList index = new LongList();
+        private long written;
+        private long count;
+
+        private SpillWriter(FileChannel channel, ElementCodec<T> codec) {
+            this.channel = channel;
+            this.codec = codec;
+        }
+
+        private void append(T element) throws IOException {
+            if (count % INDEX_INTERVAL == 0) {
+                index.add(written + buffer.position());
+            }
+            while (!tryEncode(element, buffer)) {
+                if (buffer.position() == 0) {
+                    appendOversized(element);
+                    break;
+                }
+                flush();
+            }
+            count++;
+        }
+
+        /**
+         * Encodes one record, returning {@code false} and leaving the buffer unchanged if it does not fit.
+         */
+        private boolean tryEncode(T element, ByteBuffer target) {
+            int start = target.position();
+            if (target.remaining() < Integer.BYTES) {
+                return false;
+            }
+            try {
+                target.position(start + Integer.BYTES);
+                codec.encode(element, target);
+            } catch (BufferOverflowException ex) {
+                target.position(start);
+                return false;
+            }
+            target.putInt(start, target.position() - start - Integer.BYTES);
+            return true;
+        }
+
+        private void appendOversized(T element) throws IOException {
+            ByteBuffer large = ByteBuffer.allocate(BUFFER_SIZE * 2);
+            while (!tryEncode(element, large)) {
+                large = ByteBuffer.allocate(Math.multiplyExact(large.capacity(), 2));
+            }
+            large.flip();
+            write(large);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            write(buffer);
+            buffer.clear();
+        }
+
+        private void write(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                written += channel.write(source, written);
+            }
+        }
+    }
+
+    private static final class SpilledPartitions<T> implements Partitions<T> {
+
+        private final FileChannel channel;
+        private final ElementCodec<T> codec;
+        private final long count;
+        private final LongList index;
+        private final int numPartitions;
+        private final long partitionSize;
+
+        private SpilledPartitions(FileChannel channel, ElementCodec<T> codec, long count, LongList index,
+                                  int numPartitions) {
+            this.channel = channel;
+            this.codec = codec;
+            this.count = count;
+            this.index = index;
+            this.numPartitions = numPartitions;
+            this.partitionSize = (count + numPartitions - 1) / numPartitions;
+        }
+
+        @Override
+        public int size() {
+            return numPartitions;
+        }
+
+        @Override
+        public long partitionSize(int index) {
+            Objects.checkIndex(index, numPartitions);
+            return end(index) - start(index);
+        }
+
+        @Override
+        public Iterator<T> iterator(int index) {
+            Objects.checkIndex(index, numPartitions);
+            return new RecordIterator(start(index), end(index));
+        }
+
+        @Override
+        public boolean isSpilled() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not close the spill file.", ex);
+            }
+        }
+
+        private long start(int partition) {
+            return Math.min(count, partition * partitionSize);
+        }
+
+        private long end(int partition) {
+            return Math.min(count, start(partition) + partitionSize);
+        }
+
+        /**
+         * Reads the records {@code [record, end)} with positional reads, so iterators never share channel state.
+         */
+        private final class RecordIterator implements Iterator<T> {
+
+            private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).limit(0);
+            private final long end;
+            private long record;
+            private long filePosition;
+
+            private RecordIterator(long start, long end) {
+                this.end = end;
+                if (start == end) {
+                    this.record = end;
+                    return;
+                }
+                int block = (int) (start / INDEX_INTERVAL);
+                this.record = (long) block * INDEX_INTERVAL;
+                this.filePosition = index.get(block);
+                while (record < start) {
+                    skip(readLength());
+                    record++;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return record < end;
+            }
+
+            @Override
+            public T next() {
+                if (record >= end) {
+                    throw new NoSuchElementException();
+                }
+                T element = codec.decode(read(readLength()));
+                record++;
+                return element;
+            }
+
+            private int readLength() {
+                fill(Integer.BYTES);
+                return buffer.getInt();
+            }
+
+            private ByteBuffer read(int length) {
+                if (length <= BUFFER_SIZE) {
+                    fill(length);
+                    ByteBuffer slice = buffer.slice(buffer.position(), length);
+                    buffer.position(buffer.position() + length);
+                    return slice;
+                }
+                ByteBuffer large = ByteBuffer.allocate(length);
+                large.put(buffer);
+                readFully(large);
+                return large.flip();
+            }
+
+            private void skip(int length) {
+                if (length <= buffer.remaining()) {
+                    buffer.position(buffer.position() + length);
+                } else {
+                    filePosition += length - buffer.remaining();
+                    buffer.limit(0);
+                }
+            }
+
+            /**
+             * Ensures at least {@code length} bytes (at most {@link #BUFFER_SIZE}) are buffered.
+             */
+            private void fill(int length) {
+                if (buffer.remaining() >= length) {
+                    return;
+                }
+                buffer.compact();
+                while (buffer.position() < length) {
+                    readAt(buffer);
+                }
+                buffer.flip();
+            }
+
+            private void readFully(ByteBuffer target) {
+                while (target.hasRemaining()) {
+                    readAt(target);
+                }
+            }
+
+            private int readAt(ByteBuffer target) {
+                try {
+                    int read = channel.read(target, filePosition);
+                    if (read < 0) {
+                        throw new IllegalStateException("The spill file ended before the last record.");
+                    }
+                    filePosition += read;
+                    return read;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Could not read the spill file.", ex);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.athomic.app.util.primitive;
+
+import com.athomic.app.util.Assert;
+
+/**
+ * Sizing and slot selection shared by the open-addressing tables of this package.
+ * <p>
+ * Tables have a power-of-two capacity, are kept at most three quarters full and use linear probing. Slots are chosen
+ * with Fibonacci hashing: the key is multiplied by {@code 2^64 / phi} and the top bits of the product are used, which
+ * spreads sequential ids evenly.
+ * </p>
+ */
+final class HashTables {
+
+    static final int MIN_CAPACITY = 4;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private HashTables() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Returns the smallest table capacity that holds {@code expectedSize} keys without resizing.
+     */
+    static int capacityFor(int expectedSize) {
+        Assert.isTrue(expectedSize >= 0, "expectedSize must not be negative.");
+        long needed = Math.max(MIN_CAPACITY, (long) expectedSize * 4 / 3 + 1);
+        Assert.isTrue(needed <= MAX_CAPACITY, "expectedSize is too large.");
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Returns the number of keys a table of {@code capacity} holds before it has to grow.
+     */
+    static int maxFill(int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    /**
+     * Returns the shift that {@link #slot(long, int)} uses for a table of {@code capacity}.
+     */
+    static int shiftFor(int capacity) {
+        return Long.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    static int slot(long key, int shift) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift);
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.athomic.app.util.primitive;
+
+import com.athomic.app.util.Assert;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Growable list of primitive {@code int} values backed by an {@code int[]}.
+ * <p>
+ * The {@code int} counterpart of {@link IntList}: {@code 4n} bytes for {@code n} values instead of roughly
+ * {@code 20n} for an {@code ArrayList<Integer>}. This class is not thread-safe.
+ * </p>
+ */
+public final class IntList {
+
+    private static final int[] EMPTY = {};
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public IntList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * Creates an empty list that can hold {@code initialCapacity} elements without growing.
+     *
+     * @param initialCapacity the initial capacity (must not be negative)
+     */
+    public IntList(int initialCapacity) {
+        Assert.isTrue(initialCapacity >= 0, "initialCapacity must not be negative.");
+        this.elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+    }
+
+    private IntList(int[] elements, int size) {
+        this.elements = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a list holding a copy of {@code values}.
+     *
+     * @param values the values (cannot be {@code null})
+     * @return a new list
+     */
+    public static IntList of(int... values) {
+        Assert.notNull(values, "values cannot be null.");
+        return new IntList(values.clone(), values.length);
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param value the value to append
+     */
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    /**
+     * Appends all values of an array.
+     *
+     * @param values the values to append (cannot be {@code null})
+     */
+    public void addAll(int[] values) {
+        Assert.notNull(values, "values cannot be null.");
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Appends all values of another list.
+     *
+     * @param values the values to append (cannot be {@code null})
+     */
+    public void addAll(IntList values) {
+        Assert.notNull(values, "values cannot be null.");
+        ensureCapacity(size + values.size);
+        System.arraycopy(values.elements, 0, elements, size, values.size);
+        size += values.size;
+    }
+
+    /**
+     * Returns the value at {@code index}.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the value at {@code index}.
+     *
+     * @param index the index
+     * @param value the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set(int index, int value) {
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value}, or {@code -1}.
+     *
+     * @param value the value to look for
+     * @return the index of the value, or {@code -1} if it is absent
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the list contains {@code value}.
+     *
+     * @param value the value to look for
+     * @return {@code true} if the value is present
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Returns a new list with the values from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive).
+     *
+     * @param fromIndex the first index
+     * @param toIndex   the end index
+     * @return a new list with a copy of the range
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public IntList copyOfRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new IntList(Arrays.copyOfRange(elements, fromIndex, toIndex), toIndex - fromIndex);
+    }
+
+    /**
+     * Sorts the values in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Ensures the list can hold {@code minCapacity} elements without growing.
+     *
+     * @param minCapacity the required capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns whether the list has no values.
+     *
+     * @return {@code true} if the list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Performs {@code action} for every value, in order.
+     *
+     * @param action the action to perform (cannot be {@code null})
+     */
+    public void forEach(IntConsumer action) {
+        Assert.notNull(action, "action cannot be null.");
+        int[] elements = this.elements;
+        for (int i = 0, n = size; i < n; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Returns an iterator over the values that does not box them.
+     *
+     * @return a {@link PrimitiveIterator.OfInt} over the values
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[next++];
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} of the values.
+     *
+     * @return a stream of the values
+     */
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Returns the values in a new array.
+     *
+     * @return a new array with the values
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >> 1)));
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntList other)) {
+            return false;
+        }
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + elements[i];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.athomic.app.util.primitive;
+
+import com.athomic.app.util.Assert;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.LongFunction;
+
+/**
+ * Hash map from primitive {@code long} keys to object values, with open addressing.
+ * <p>
+ * Keys and values live in two parallel arrays probed linearly, so {@link #get(long)} never boxes the key and reads one
+ * or two adjacent slots instead of a bucket node. Per entry this takes between {@code 16n} and {@code 32n} bytes for
+ * the two tables (with compressed references), against more than {@code 48n} for a {@code HashMap<Long, V>}.
+ * </p>
+ * <p>
+ * {@code null} values are not allowed, so {@link #get(long)} returning {@code null} always means the key is absent.
+ * Iteration order is unspecified. This class is not thread-safe.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+public final class Long2ObjectMap<V> {
+
+    /**
+     * Marks an unused slot. The key {@code 0} itself is stored in {@link #zeroValue}.
+     */
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private int shift;
+    private int maxFill;
+    private V zeroValue;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public Long2ObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize the expected number of entries (must not be negative)
+     */
+    public Long2ObjectMap(int expectedSize) {
+        allocate(HashTables.capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to {@code key}.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is absent
+     */
+    public V get(long key) {
+        if (key == FREE) {
+            return zeroValue;
+        }
+        int slot = find(key);
+        return slot < 0 ? null : value(slot);
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if the key is absent.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return for an absent key
+     * @return the mapped value or {@code defaultValue}
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns whether {@code key} is mapped.
+     *
+     * @param key the key
+     * @return {@code true} if the key is present
+     */
+    public boolean containsKey(long key) {
+        return key == FREE ? zeroValue != null : find(key) >= 0;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}.
+     *
+     * @param key   the key
+     * @param value the value (cannot be {@code null})
+     * @return the previous value, or {@code null} if the key was absent
+     */
+    public V put(long key, V value) {
+        Assert.notNull(value, "value cannot be null.");
+        if (key == FREE) {
+            V previous = zeroValue;
+            zeroValue = value;
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int slot = HashTables.slot(key, shift);
+        for (long current; (current = keys[slot]) != FREE; slot = (slot + 1) & mask) {
+            if (current == key) {
+                V previous = value(slot);
+                values[slot] = value;
+                return previous;
+            }
+        }
+        insertAt(slot, key, value);
+        return null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, computing and storing it first if the key is absent.
+     *
+     * @param key             the key
+     * @param mappingFunction the function computing a value for an absent key (cannot be {@code null}); if it
+     *                        returns {@code null}, nothing is stored
+     * @return the existing or computed value, or {@code null} if the function returned {@code null}
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        Assert.notNull(mappingFunction, "mappingFunction cannot be null.");
+        if (key == FREE) {
+            if (zeroValue == null) {
+                zeroValue = mappingFunction.apply(key);
+                if (zeroValue != null) {
+                    size++;
+                }
+            }
+            return zeroValue;
+        }
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int slot = HashTables.slot(key, shift);
+        for (long current; (current = keys[slot]) != FREE; slot = (slot + 1) & mask) {
+            if (current == key) {
+                return value(slot);
+            }
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            insertAt(slot, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the mapping for {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    public V remove(long key) {
+        if (key == FREE) {
+            V previous = zeroValue;
+            if (previous != null) {
+                zeroValue = null;
+                size--;
+            }
+            return previous;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = value(slot);
+        shiftKeys(slot);
+        size--;
+        return previous;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the map has no entries.
+     *
+     * @return {@code true} if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Performs {@code action} for every entry without boxing the keys.
+     *
+     * @param action the action to perform (cannot be {@code null})
+     */
+    public void forEach(LongObjConsumer<? super V> action) {
+        Assert.notNull(action, "action cannot be null.");
+        if (zeroValue != null) {
+            action.accept(FREE, zeroValue);
+        }
+        long[] keys = this.keys;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                action.accept(keys[slot], value(slot));
+            }
+        }
+    }
+
+    /**
+     * Returns the keys in a new set.
+     *
+     * @return a new {@link LongHashSet} with the keys
+     */
+    public LongHashSet keySet() {
+        LongHashSet keySet = new LongHashSet(size);
+        forEach((key, value) -> keySet.add(key));
+        return keySet;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int slot) {
+        return (V) values[slot];
+    }
+
+    private int find(long key) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int slot = HashTables.slot(key, shift);
+        for (long current; (current = keys[slot]) != FREE; slot = (slot + 1) & mask) {
+            if (current == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void insertAt(int slot, long key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size - (zeroValue != null ? 1 : 0) > maxFill) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Closes the gap left at {@code slot} by moving back later entries of the same probe run, so lookups never need
+     * tombstones.
+     */
+    private void shiftKeys(int slot) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; keys[i] != FREE; i = (i + 1) & mask) {
+            int ideal = HashTables.slot(keys[i], shift);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = FREE;
+        values[gap] = null;
+    }
+
+    private void rehash(int capacity) {
+        Assert.state(capacity <= HashTables.MAX_CAPACITY, "Long2ObjectMap cannot grow beyond its maximum capacity.");
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = HashTables.slot(oldKeys[i], shift);
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        shift = HashTables.shiftFor(capacity);
+        maxFill = HashTables.maxFill(capacity);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.athomic.app.util.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A collection of primitive {@code long} values.
+ * <p>
+ * Implementations store their elements in {@code long[]} arrays, so elements are never boxed, and every way of
+ * visiting them ({@link #forEach(LongConsumer)}, {@link #iterator()}, {@link #stream()}) works on primitives.
+ * </p>
+ */
+public interface LongCollection {
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Returns whether the collection has no elements.
+     *
+     * @return {@code true} if the collection is empty
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns whether the collection contains {@code value}.
+     *
+     * @param value the value to look for
+     * @return {@code true} if the value is present
+     */
+    boolean contains(long value);
+
+    /**
+     * Performs {@code action} for every element, in iteration order.
+     *
+     * @param action the action to perform (cannot be {@code null})
+     */
+    void forEach(LongConsumer action);
+
+    /**
+     * Returns an iterator over the elements that does not box them.
+     *
+     * @return a {@link PrimitiveIterator.OfLong} over the elements
+     */
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Returns a sequential {@link LongStream} of the elements.
+     *
+     * @return a stream of the elements
+     */
+    LongStream stream();
+
+    /**
+     * Returns the elements in a new array, in iteration order.
+     *
+     * @return a new array with the elements
+     */
+    long[] toArray();
+
+}
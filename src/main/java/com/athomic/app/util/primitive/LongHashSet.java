@@ -0,0 +1,288 @@
+package com.athomic.app.util.primitive;
+
+import com.athomic.app.util.Assert;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Hash set of primitive {@code long} values with open addressing.
+ * <p>
+ * Values live directly in a {@code long[]} table probed linearly, so a lookup touches one or two adjacent array slots
+ * instead of a bucket node and a boxed {@link Long}. A set of {@code n} ids takes between {@code 10.7n} and
+ * {@code 21.3n} bytes depending on where the table is in its growth cycle, against more than {@code 48n} for a
+ * {@code HashSet<Long>}. Iteration order is unspecified. This class is not thread-safe.
+ * </p>
+ */
+public final class LongHashSet implements LongCollection {
+
+    /**
+     * Marks an unused slot. The value {@code 0} itself is tracked by {@link #containsZero}.
+     */
+    private static final long FREE = 0L;
+
+    private long[] table;
+    private int shift;
+    private int maxFill;
+    private boolean containsZero;
+    private int size;
+
+    /**
+     * Creates an empty set.
+     */
+    public LongHashSet() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty set that holds {@code expectedSize} values without resizing.
+     *
+     * @param expectedSize the expected number of values (must not be negative)
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(HashTables.capacityFor(expectedSize));
+    }
+
+    /**
+     * Creates a set holding the distinct {@code values}.
+     *
+     * @param values the values (cannot be {@code null})
+     * @return a new set
+     */
+    public static LongHashSet of(long... values) {
+        Assert.notNull(values, "values cannot be null.");
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value to add
+     * @return {@code true} if the value was not already present
+     */
+    public boolean add(long value) {
+        if (value == FREE) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        long[] table = this.table;
+        int mask = table.length - 1;
+        int slot = HashTables.slot(value, shift);
+        for (long current; (current = table[slot]) != FREE; slot = (slot + 1) & mask) {
+            if (current == value) {
+                return false;
+            }
+        }
+        table[slot] = value;
+        if (++size - (containsZero ? 1 : 0) > maxFill) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param value the value to remove
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(long value) {
+        if (value == FREE) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = find(value);
+        if (slot < 0) {
+            return false;
+        }
+        shiftKeys(slot);
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean contains(long value) {
+        return value == FREE ? containsZero : find(value) >= 0;
+    }
+
+    /**
+     * Removes all values, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(table, FREE);
+        containsZero = false;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        Assert.notNull(action, "action cannot be null.");
+        if (containsZero) {
+            action.accept(FREE);
+        }
+        for (long value : table) {
+            if (value != FREE) {
+                action.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            private int slot = -1;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                if (slot < 0) {
+                    slot = 0;
+                    if (containsZero) {
+                        return FREE;
+                    }
+                }
+                while (table[slot] == FREE) {
+                    slot++;
+                }
+                return table[slot++];
+            }
+        };
+    }
+
+    @Override
+    public LongStream stream() {
+        Spliterator.OfLong spliterator = Spliterators.spliterator(iterator(), size, Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    @Override
+    public long[] toArray() {
+        long[] values = new long[size];
+        int index = 0;
+        if (containsZero) {
+            values[index++] = FREE;
+        }
+        for (long value : table) {
+            if (value != FREE) {
+                values[index++] = value;
+            }
+        }
+        return values;
+    }
+
+    private int find(long value) {
+        long[] table = this.table;
+        int mask = table.length - 1;
+        int slot = HashTables.slot(value, shift);
+        for (long current; (current = table[slot]) != FREE; slot = (slot + 1) & mask) {
+            if (current == value) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the gap left at {@code slot} by moving back later entries of the same probe run, so lookups never need
+     * tombstones.
+     */
+    private void shiftKeys(int slot) {
+        long[] table = this.table;
+        int mask = table.length - 1;
+        int gap = slot;
+        for (int i = (gap + 1) & mask; table[i] != FREE; i = (i + 1) & mask) {
+            int ideal = HashTables.slot(table[i], shift);
+            if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                gap = i;
+            }
+        }
+        table[gap] = FREE;
+    }
+
+    private void rehash(int capacity) {
+        Assert.state(capacity <= HashTables.MAX_CAPACITY, "LongHashSet cannot grow beyond its maximum capacity.");
+        long[] old = table;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (long value : old) {
+            if (value != FREE) {
+                int slot = HashTables.slot(value, shift);
+                while (table[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        shift = HashTables.shiftFor(capacity);
+        maxFill = HashTables.maxFill(capacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongHashSet other) || other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (long value : table) {
+            if (value != FREE && !other.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (long value : table) {
+            result += Long.hashCode(value);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+}
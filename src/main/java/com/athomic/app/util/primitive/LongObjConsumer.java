@@ -0,0 +1,20 @@
+package com.athomic.app.util.primitive;
+
+/**
+ * Operation that accepts a primitive {@code long} key and an object value, such as the entries of a
+ * {@link Long2ObjectMap}.
+ *
+ * @param <V> the type of the value
+ */
+@FunctionalInterface
+public interface LongObjConsumer<V> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    void accept(long key, V value);
+
+}
@@ -0,0 +1,27 @@
+package com.athomic.app.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated {@link CharSequence} must contain at least one non-whitespace character.
+ * <p>
+ * Processed at compile time by {@code ValidatorProcessor}, which generates a {@link Validator} for the declaring class.
+ * </p>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface HasText {
+
+    /**
+     * The violation message; defaults to a message naming the field.
+     *
+     * @return the message
+     */
+    String message() default "";
+
+}
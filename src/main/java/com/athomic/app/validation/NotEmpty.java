@@ -0,0 +1,28 @@
+package com.athomic.app.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated {@link CharSequence}, {@link java.util.Collection}, {@link java.util.Map} or array must not be
+ * {@code null} or empty.
+ * <p>
+ * Processed at compile time by {@code ValidatorProcessor}, which generates a {@link Validator} for the declaring class.
+ * </p>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface NotEmpty {
+
+    /**
+     * The violation message; defaults to a message naming the field.
+     *
+     * @return the message
+     */
+    String message() default "";
+
+}
@@ -0,0 +1,42 @@
+package com.athomic.app.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated integral number must be between {@link #min()} and {@link #max()} (inclusive). {@code null} is valid;
+ * combine with {@link NotNull} to reject it.
+ * <p>
+ * Processed at compile time by {@code ValidatorProcessor}, which generates a {@link Validator} for the declaring class.
+ * </p>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface Range {
+
+    /**
+     * The minimum value.
+     *
+     * @return the minimum value
+     */
+    long min() default Long.MIN_VALUE;
+
+    /**
+     * The maximum value.
+     *
+     * @return the maximum value
+     */
+    long max() default Long.MAX_VALUE;
+
+    /**
+     * The violation message; defaults to a message naming the field.
+     *
+     * @return the message
+     */
+    String message() default "";
+
+}
@@ -0,0 +1,43 @@
+package com.athomic.app.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The length of the annotated {@link CharSequence}, or the size of the {@link java.util.Collection}, {@link java.util.Map}
+ * or array, must be between {@link #min()} and {@link #max()} (inclusive). {@code null} is valid; combine with
+ * {@link NotNull} to reject it.
+ * <p>
+ * Processed at compile time by {@code ValidatorProcessor}, which generates a {@link Validator} for the declaring class.
+ * </p>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.CLASS)
+public @interface Size {
+
+    /**
+     * The minimum size.
+     *
+     * @return the minimum size
+     */
+    int min() default 0;
+
+    /**
+     * The maximum size.
+     *
+     * @return the maximum size
+     */
+    int max() default Integer.MAX_VALUE;
+
+    /**
+     * The violation message; defaults to a message naming the field.
+     *
+     * @return the message
+     */
+    String message() default "";
+
+}
@@ -0,0 +1,36 @@
+package com.athomic.app.validation;
+
+/**
+ * Validates objects of one type, reporting every failed constraint to a {@link Violations} collector.
+ * <p>
+ * Implementations are generated at compile time by {@code ValidatorProcessor} for every class with constraint
+ * annotations ({@link NotNull}, {@link HasText}, {@link NotEmpty}, {@link Size}, {@link Range}) on its fields. The
+ * generated class is named after the validated class with a {@code Validator} suffix (nested classes are joined with
+ * {@code _}), lives in the same package and exposes a singleton {@code INSTANCE}.
+ * </p>
+ *
+ * @param <T> the type of validated objects
+ */
+public interface Validator<T> {
+
+    /**
+     * Checks every constraint of {@code object} and adds the failed ones to {@code violations}.
+     *
+     * @param object     the object to validate (cannot be {@code null})
+     * @param violations the collector of failed constraints
+     */
+    void validate(T object, Violations violations);
+
+    /**
+     * Validates {@code object} and throws if any constraint failed.
+     *
+     * @param object the object to validate (cannot be {@code null})
+     * @throws com.athomic.app.exception.ValidationException listing every failed constraint
+     */
+    default void validate(T object) {
+        Violations violations = new Violations();
+        validate(object, violations);
+        violations.throwIfAny();
+    }
+
+}
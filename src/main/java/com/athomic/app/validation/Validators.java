@@ -0,0 +1,99 @@
+package com.athomic.app.validation;
+
+import com.athomic.app.util.Assert;
+import org.springframework.lang.Nullable;
+
+/**
+ * Looks up generated {@link Validator}s by the class they validate.
+ * <p>
+ * The generated class is resolved once per validated class and cached in a {@link ClassValue}, so after the first
+ * lookup finding a validator costs a single map read and validation itself involves no reflection.
+ * </p>
+ * <p>
+ * Generated validators also check inherited constraints. A class without a generated validator of its own, e.g. a
+ * subclass that declares no constraints or a proxy, is validated by the validator of its closest superclass that has
+ * one.
+ * </p>
+ */
+public final class Validators {
+
+    private static final String SUFFIX = "Validator";
+
+    private static final ClassValue<Validator<?>> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected Validator<?> computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    /**
+     * Private constructor to prevent instantiation of the utility class.
+     * <p>
+     * Throws an {@link UnsupportedOperationException} to indicate that this class cannot be instantiated.
+     * </p>
+     */
+    private Validators() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Returns the generated validator for {@code type}.
+     *
+     * @param type the validated class (cannot be {@code null})
+     * @param <T>  the validated type
+     * @return the validator of {@code type} or of its closest validated superclass, or {@code null} if neither
+     * {@code type} nor its superclasses have constraint annotations
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> Validator<T> find(Class<T> type) {
+        Assert.notNull(type, "type cannot be null.");
+        return (Validator<T>) VALIDATORS.get(type);
+    }
+
+    /**
+     * Validates {@code object} with the generated validator of its class, if it has one.
+     *
+     * @param object the object to validate (cannot be {@code null})
+     * @param <T>    the validated type
+     * @throws com.athomic.app.exception.ValidationException listing every failed constraint
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void validate(T object) {
+        Assert.notNull(object, "object cannot be null.");
+        Validator<T> validator = (Validator<T>) find(object.getClass());
+        if (validator != null) {
+            validator.validate(object);
+        }
+    }
+
+    /**
+     * Returns the name of the validator generated for {@code type}: nested class names joined with {@code _} plus
+     * {@value #SUFFIX}, in the same package.
+     *
+     * @param type the validated class
+     * @return the binary name of the generated validator
+     */
+    static String validatorName(Class<?> type) {
+        String name = type.getName();
+        int packageEnd = name.lastIndexOf('.') + 1;
+        return name.substring(0, packageEnd) + name.substring(packageEnd).replace('$', '_') + SUFFIX;
+    }
+
+    @Nullable
+    private static Validator<?> load(Class<?> type) {
+        Class<?> validatorClass;
+        try {
+            validatorClass = Class.forName(validatorName(type), true, type.getClassLoader());
+        } catch (ClassNotFoundException ex) {
+            Class<?> superclass = type.getSuperclass();
+            return superclass == null || superclass == Object.class ? null : VALIDATORS.get(superclass);
+        }
+        try {
+            return (Validator<?>) validatorClass.getField("INSTANCE").get(null);
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            throw new IllegalStateException("Invalid generated validator " + validatorClass.getName() + ".", ex);
+        }
+    }
+
+}
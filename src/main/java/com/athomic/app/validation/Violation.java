@@ -0,0 +1,10 @@
+package com.athomic.app.validation;
+
+/**
+ * A failed constraint: the field that failed and a human-readable message.
+ *
+ * @param field   the name of the field
+ * @param message the violation message
+ */
+public record Violation(String field, String message) {
+}
@@ -0,0 +1,199 @@
+package com.athomic.app.validation;
+
+import com.athomic.app.exception.ValidationException;
+import com.athomic.app.util.Assert;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects failed constraints instead of throwing on the first one.
+ * <p>
+ * The checks mirror the {@link Assert} methods of the same name and use the same predicates, but record a
+ * {@link Violation} and carry on, so a single pass reports every invalid field. The methods take plain values and
+ * constant messages, so generated validators run without reflection, lambdas or string building; the violation list
+ * is only allocated once a check fails. This class is not thread-safe.
+ * </p>
+ */
+public final class Violations {
+
+    private List<Violation> violations;
+
+    /**
+     * Records a violation if {@code expression} is {@code false}.
+     *
+     * @param expression the condition that must hold
+     * @param field      the name of the checked field
+     * @param message    the violation message
+     * @see Assert#isTrue(boolean, String)
+     */
+    public void isTrue(boolean expression, String field, String message) {
+        if (!expression) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code value} is {@code null}.
+     *
+     * @param value   the value to check
+     * @param field   the name of the checked field
+     * @param message the violation message
+     * @see Assert#notNull(Object, String)
+     */
+    public void notNull(@Nullable Object value, String field, String message) {
+        if (value == null) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code text} is {@code null} or empty.
+     *
+     * @param text    the text to check
+     * @param field   the name of the checked field
+     * @param message the violation message
+     * @see Assert#hasLength(String, String)
+     */
+    public void hasLength(@Nullable CharSequence text, String field, String message) {
+        if (!StringUtils.hasLength(text)) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code text} is {@code null}, empty or only whitespace.
+     *
+     * @param text    the text to check
+     * @param field   the name of the checked field
+     * @param message the violation message
+     * @see Assert#hasText(String, String)
+     */
+    public void hasText(@Nullable CharSequence text, String field, String message) {
+        if (!StringUtils.hasText(text)) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code collection} is {@code null} or empty.
+     *
+     * @param collection the collection to check
+     * @param field      the name of the checked field
+     * @param message    the violation message
+     * @see Assert#notEmpty(Collection, String)
+     */
+    public void notEmpty(@Nullable Collection<?> collection, String field, String message) {
+        if (CollectionUtils.isEmpty(collection)) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code map} is {@code null} or empty.
+     *
+     * @param map     the map to check
+     * @param field   the name of the checked field
+     * @param message the violation message
+     * @see Assert#notEmpty(Map, String)
+     */
+    public void notEmpty(@Nullable Map<?, ?> map, String field, String message) {
+        if (CollectionUtils.isEmpty(map)) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code array} is {@code null} or empty.
+     *
+     * @param array   the array to check
+     * @param field   the name of the checked field
+     * @param message the violation message
+     * @see Assert#notEmpty(Object[], String)
+     */
+    public void notEmpty(@Nullable Object[] array, String field, String message) {
+        if (ObjectUtils.isEmpty(array)) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code size} is outside {@code [min, max]}.
+     *
+     * @param size    the length or size to check
+     * @param min     the minimum size
+     * @param max     the maximum size
+     * @param field   the name of the checked field
+     * @param message the violation message
+     */
+    public void size(int size, int min, int max, String field, String message) {
+        if (size < min || size > max) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation if {@code value} is outside {@code [min, max]}.
+     *
+     * @param value   the value to check
+     * @param min     the minimum value
+     * @param max     the maximum value
+     * @param field   the name of the checked field
+     * @param message the violation message
+     */
+    public void range(long value, long min, long max, String field, String message) {
+        if (value < min || value > max) {
+            add(field, message);
+        }
+    }
+
+    /**
+     * Records a violation.
+     *
+     * @param field   the name of the field
+     * @param message the violation message
+     */
+    public void add(String field, String message) {
+        if (violations == null) {
+            violations = new ArrayList<>(4);
+        }
+        violations.add(new Violation(field, message));
+    }
+
+    /**
+     * Returns whether no violation was recorded.
+     *
+     * @return {@code true} if every check passed
+     */
+    public boolean isEmpty() {
+        return violations == null;
+    }
+
+    /**
+     * Returns the recorded violations, in the order the checks ran.
+     *
+     * @return an unmodifiable list of violations
+     */
+    public List<Violation> getViolations() {
+        return violations == null ? Collections.emptyList() : Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * Throws a {@link ValidationException} listing the recorded violations, if there are any.
+     *
+     * @throws ValidationException if a violation was recorded
+     */
+    public void throwIfAny() {
+        if (violations != null) {
+            throw new ValidationException(getViolations());
+        }
+    }
+
+}
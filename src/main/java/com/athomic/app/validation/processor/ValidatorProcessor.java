@@ -0,0 +1,423 @@
+package com.athomic.app.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code Validator} for every class with constraint annotations on its fields.
+ * <p>
+ * For a class {@code Foo} the processor writes {@code FooValidator} (nested classes are joined with {@code _}) in the
+ * same package. The generated {@code validate} method reads each constrained field once through its getter, record
+ * accessor or, for non-private fields, directly, and calls the matching {@code Violations} check with the field name
+ * and a message fixed at compile time. The generated code uses no reflection, lambdas or string concatenation.
+ * </p>
+ * <p>
+ * Constrained fields inherited from superclasses are checked too, before the class's own fields, with their types
+ * resolved against the validated class. They must be readable from the validator's package: through a getter, or
+ * directly if the field is public or declared in the same package.
+ * </p>
+ * <p>
+ * Constraints on fields of an unsupported type, fields without an accessible getter or field access, constrained
+ * fields hiding an inherited constrained field and generic classes are reported as compilation errors.
+ * </p>
+ * <p>
+ * The processor only depends on the JDK so it can be compiled before the rest of the application; the build
+ * compiles this package first and registers the processor for the main and test compilations.
+ * </p>
+ */
+public class ValidatorProcessor extends AbstractProcessor {
+
+    private static final String PACKAGE = "com.athomic.app.validation.";
+    private static final String NOT_NULL = PACKAGE + "NotNull";
+    private static final String HAS_TEXT = PACKAGE + "HasText";
+    private static final String NOT_EMPTY = PACKAGE + "NotEmpty";
+    private static final String SIZE = PACKAGE + "Size";
+    private static final String RANGE = PACKAGE + "Range";
+    private static final List<String> CONSTRAINTS = List.of(NOT_NULL, HAS_TEXT, NOT_EMPTY, SIZE, RANGE);
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.copyOf(CONSTRAINTS);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> validatedTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    validatedTypes.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+        for (TypeElement type : validatedTypes) {
+            String validatorName = validatorName(type);
+            if (generated.add(validatorName)) {
+                generate(type, validatorName);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, String validatorName) {
+        if (!type.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Constraint annotations are not supported on generic classes.", type);
+            return;
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Constraint annotations are not supported on private classes.", type);
+            return;
+        }
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = validatorName.substring(validatorName.lastIndexOf('.') + 1);
+        String typeName = type.getQualifiedName().toString();
+
+        List<VariableElement> fields = new ArrayList<>();
+        collectFields(type, fields);
+        StringBuilder body = new StringBuilder();
+        Set<String> checkedFields = new HashSet<>();
+        boolean valid = true;
+        for (VariableElement field : fields) {
+            valid &= appendChecks(type, packageName, field, checkedFields, body);
+        }
+        if (!valid) {
+            return;
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.athomic.app.validation.Validator;\n")
+                .append("import com.athomic.app.validation.Violations;\n")
+                .append("\n")
+                .append("/**\n")
+                .append(" * Validator for {@link ").append(typeName).append("}, generated from its constraint annotations.\n")
+                .append(" */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" implements Validator<").append(typeName).append("> {\n")
+                .append("\n")
+                .append("    public static final ").append(simpleName).append(" INSTANCE = new ").append(simpleName).append("();\n")
+                .append("\n")
+                .append("    private ").append(simpleName).append("() {\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    @Override\n")
+                .append("    public void validate(").append(typeName).append(" target, Violations violations) {\n")
+                .append(body)
+                .append("    }\n")
+                .append("\n")
+                .append("}\n");
+
+        try (Writer writer = filer.createSourceFile(validatorName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException ex) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write " + validatorName + ": " + ex.getMessage(), type);
+        }
+    }
+
+    /**
+     * Adds the fields of {@code type} and its superclasses to {@code fields}, superclass fields first.
+     */
+    private static void collectFields(TypeElement type, List<VariableElement> fields) {
+        if (type.getSuperclass() instanceof DeclaredType superclass) {
+            collectFields((TypeElement) superclass.asElement(), fields);
+        }
+        fields.addAll(ElementFilter.fieldsIn(type.getEnclosedElements()));
+    }
+
+    /**
+     * Appends the checks of one field, returning {@code false} after reporting an error.
+     */
+    private boolean appendChecks(TypeElement type, String packageName, VariableElement field,
+                                 Set<String> checkedFields, StringBuilder body) {
+        List<? extends AnnotationMirror> constraints = field.getAnnotationMirrors().stream()
+                .filter(mirror -> CONSTRAINTS.contains(qualifiedName(mirror)))
+                .toList();
+        if (constraints.isEmpty()) {
+            return true;
+        }
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Constraint annotations are not supported on static fields.", field);
+            return false;
+        }
+        String name = field.getSimpleName().toString();
+        if (!checkedFields.add(name)) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Constrained field hides an inherited constrained field of " + type.getQualifiedName() + ".", field);
+            return false;
+        }
+        DeclaredType targetType = (DeclaredType) type.asType();
+        TypeMirror fieldType = types.asMemberOf(targetType, field);
+        String access = accessExpression(type, packageName, field, fieldType);
+        if (access == null) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Constrained field of " + type.getQualifiedName()
+                    + " needs a getter, a record accessor or field access from package " + packageName + ".", field);
+            return false;
+        }
+
+        String local = name + "Value";
+        body.append("        var ").append(local).append(" = target.").append(access).append(";\n");
+
+        boolean valid = true;
+        for (AnnotationMirror constraint : constraints) {
+            String check = check(qualifiedName(constraint), constraint, fieldType, local, name);
+            if (check == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@" + constraint.getAnnotationType().asElement().getSimpleName()
+                                + " is not supported on fields of type " + fieldType + ".", field, constraint);
+                valid = false;
+            } else {
+                body.append("        ").append(check).append("\n");
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the statement checking one constraint, or {@code null} if it does not apply to the field type.
+     */
+    private String check(String constraint, AnnotationMirror mirror, TypeMirror fieldType, String local, String name) {
+        Kind kind = kindOf(fieldType);
+        String field = literal(name);
+        switch (constraint) {
+            case NOT_NULL -> {
+                if (fieldType.getKind().isPrimitive()) {
+                    return null;
+                }
+                return "violations.notNull(" + local + ", " + field + ", " + message(mirror, name + " cannot be null.") + ");";
+            }
+            case HAS_TEXT -> {
+                if (kind != Kind.TEXT) {
+                    return null;
+                }
+                return "violations.hasText(" + local + ", " + field + ", " + message(mirror, name + " cannot be blank.") + ");";
+            }
+            case NOT_EMPTY -> {
+                String message = message(mirror, name + " cannot be empty.");
+                return switch (kind) {
+                    case TEXT -> "violations.hasLength(" + local + ", " + field + ", " + message + ");";
+                    case COLLECTION, MAP, OBJECT_ARRAY -> "violations.notEmpty(" + local + ", " + field + ", " + message + ");";
+                    case PRIMITIVE_ARRAY -> "violations.isTrue(" + local + " != null && " + local + ".length > 0, " + field + ", " + message + ");";
+                    default -> null;
+                };
+            }
+            case SIZE -> {
+                String size = switch (kind) {
+                    case TEXT -> local + ".length()";
+                    case COLLECTION, MAP -> local + ".size()";
+                    case OBJECT_ARRAY, PRIMITIVE_ARRAY -> local + ".length";
+                    default -> null;
+                };
+                if (size == null) {
+                    return null;
+                }
+                int min = ((Number) value(mirror, "min", 0)).intValue();
+                int max = ((Number) value(mirror, "max", Integer.MAX_VALUE)).intValue();
+                String message = message(mirror, max == Integer.MAX_VALUE
+                        ? name + " size must be at least " + min + "."
+                        : name + " size must be between " + min + " and " + max + ".");
+                return "if (" + local + " != null) violations.size(" + size + ", " + min + ", " + max + ", " + field + ", " + message + ");";
+            }
+            case RANGE -> {
+                if (kind != Kind.INTEGRAL) {
+                    return null;
+                }
+                long min = ((Number) value(mirror, "min", Long.MIN_VALUE)).longValue();
+                long max = ((Number) value(mirror, "max", Long.MAX_VALUE)).longValue();
+                String message = message(mirror, rangeMessage(name, min, max));
+                String call = "violations.range(" + local + ", " + min + "L, " + max + "L, " + field + ", " + message + ");";
+                return fieldType.getKind().isPrimitive() ? call : "if (" + local + " != null) " + call;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static String rangeMessage(String name, long min, long max) {
+        if (min == Long.MIN_VALUE) {
+            return name + " must be at most " + max + ".";
+        }
+        if (max == Long.MAX_VALUE) {
+            return name + " must be at least " + min + ".";
+        }
+        return name + " must be between " + min + " and " + max + ".";
+    }
+
+    /**
+     * Returns how the field is read from {@code target}: a getter or record accessor if there is an accessible one, the
+     * field itself if it is accessible, {@code null} otherwise.
+     */
+    private String accessExpression(TypeElement type, String packageName, VariableElement field, TypeMirror fieldType) {
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Set<String> candidates = type.getKind() == ElementKind.RECORD
+                ? Set.of(name)
+                : Set.of("get" + capitalized, "is" + capitalized);
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (candidates.contains(method.getSimpleName().toString())
+                    && method.getParameters().isEmpty()
+                    && isAccessible(method, packageName)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && types.isSameType(((ExecutableType) types.asMemberOf((DeclaredType) type.asType(), method))
+                    .getReturnType(), fieldType)) {
+                return method.getSimpleName() + "()";
+            }
+        }
+        return isAccessible(field, packageName) ? name : null;
+    }
+
+    /**
+     * Returns whether {@code member} can be used from a class in {@code packageName}.
+     */
+    private boolean isAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC) || (!modifiers.contains(Modifier.PRIVATE)
+                && elements.getPackageOf(member).getQualifiedName().contentEquals(packageName));
+    }
+
+    private Kind kindOf(TypeMirror type) {
+        switch (type.getKind()) {
+            case BYTE, SHORT, INT, LONG -> {
+                return Kind.INTEGRAL;
+            }
+            case ARRAY -> {
+                TypeMirror component = ((ArrayType) type).getComponentType();
+                return component.getKind().isPrimitive() ? Kind.PRIMITIVE_ARRAY : Kind.OBJECT_ARRAY;
+            }
+            case DECLARED -> {
+                if (isAssignable(type, "java.lang.CharSequence")) {
+                    return Kind.TEXT;
+                }
+                if (isAssignable(type, "java.util.Collection")) {
+                    return Kind.COLLECTION;
+                }
+                if (isAssignable(type, "java.util.Map")) {
+                    return Kind.MAP;
+                }
+                for (String boxed : List.of("java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long")) {
+                    if (isAssignable(type, boxed)) {
+                        return Kind.INTEGRAL;
+                    }
+                }
+                return Kind.OTHER;
+            }
+            default -> {
+                return Kind.OTHER;
+            }
+        }
+    }
+
+    private boolean isAssignable(TypeMirror type, String className) {
+        TypeElement target = elements.getTypeElement(className);
+        return target != null && types.isAssignable(types.erasure(type), types.erasure(target.asType()));
+    }
+
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement outer) {
+            name.insert(0, outer.getSimpleName() + "_");
+            enclosing = outer.getEnclosingElement();
+        }
+        String packageName = ((PackageElement) enclosing).getQualifiedName().toString();
+        return (packageName.isEmpty() ? "" : packageName + ".") + name + "Validator";
+    }
+
+    private static String qualifiedName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static Object value(AnnotationMirror mirror, String attribute, Object defaultValue) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String message(AnnotationMirror mirror, String defaultMessage) {
+        String message = (String) value(mirror, "message", "");
+        return literal(message.isEmpty() ? defaultMessage : message);
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private enum Kind {
+        TEXT, COLLECTION, MAP, OBJECT_ARRAY, PRIMITIVE_ARRAY, INTEGRAL, OTHER
+    }
+
+}
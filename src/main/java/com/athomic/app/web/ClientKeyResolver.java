@@ -0,0 +1,69 @@
+package com.athomic.app.web;
+
+import com.athomic.app.util.Assert;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.function.Predicate;
+
+/**
+ * Resolves the key a request is rate limited by.
+ * <p>
+ * Requests are keyed by their remote address unless a bean of this type is declared, e.g. to limit by an
+ * authenticated API key, principal or tenant id. Behind a proxy the remote address is only meaningful if
+ * {@code server.forward-headers-strategy} is set. Keys carry a prefix naming their source ({@code ip:},
+ * {@code key:}) so a client-chosen value can never collide with another client's address.
+ * </p>
+ */
+@FunctionalInterface
+public interface ClientKeyResolver {
+
+    /**
+     * Prefix of keys derived from the remote address.
+     */
+    String REMOTE_ADDRESS_PREFIX = "ip:";
+
+    /**
+     * Prefix of keys derived from an API key.
+     */
+    String API_KEY_PREFIX = "key:";
+
+    /**
+     * Returns the client key of a request.
+     *
+     * @param request the current request
+     * @return the client key, or {@code null} to leave the request unlimited
+     */
+    String resolve(HttpServletRequest request);
+
+    /**
+     * Keys requests by the remote address.
+     *
+     * @return a {@link ClientKeyResolver}
+     */
+    static ClientKeyResolver remoteAddress() {
+        return request -> REMOTE_ADDRESS_PREFIX + request.getRemoteAddr();
+    }
+
+    /**
+     * Keys requests by an API key header, falling back to the remote address for requests without a valid key.
+     * <p>
+     * Only keys accepted by {@code validKey} are used: an unverified header would let a client get a fresh bucket per
+     * request by sending a new value each time.
+     * </p>
+     *
+     * @param headerName the name of the API key header (cannot be {@code null})
+     * @param validKey   whether a header value is a known API key (cannot be {@code null})
+     * @return a {@link ClientKeyResolver}
+     */
+    static ClientKeyResolver apiKeyOrRemoteAddress(String headerName, Predicate<String> validKey) {
+        Assert.notNull(headerName, "headerName cannot be null.");
+        Assert.notNull(validKey, "validKey cannot be null.");
+        return request -> {
+            String apiKey = request.getHeader(headerName);
+            return apiKey != null && !apiKey.isEmpty() && validKey.test(apiKey)
+                    ? API_KEY_PREFIX + apiKey
+                    : REMOTE_ADDRESS_PREFIX + request.getRemoteAddr();
+        };
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.athomic.app.web;
+
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link ShallowEtagHeaderFilter} that derives ETags from a fast 64-bit non-cryptographic hash instead of MD5.
+ * <p>
+ * The filter buffers GET/HEAD responses, computes an ETag over the body and answers a matching {@code If-None-Match}
+ * with {@code 304 Not Modified} without sending the body. Once a handler sets its own ETag (see {@link ETags}) the
+ * response is no longer buffered, so that handler must answer {@code 304} itself, typically through
+ * {@link org.springframework.web.context.request.WebRequest#checkNotModified(String)}. Streaming responses opt out with
+ * {@link ShallowEtagHeaderFilter#disableContentCaching}.
+ * </p>
+ */
+public class FastEtagHeaderFilter extends ShallowEtagHeaderFilter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    protected String generateETagHeaderValue(InputStream inputStream, boolean isWeak) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        ETags.Hasher hasher = new ETags.Hasher();
+        int read;
+        while ((read = inputStream.readNBytes(buffer, 0, BUFFER_SIZE)) > 0) {
+            hasher.update(buffer, read);
+        }
+        return ETags.format(hasher.finish(), isWeak);
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.athomic.app.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency of every request handled by a controller method in pre-registered {@link Timer}s.
+ * <p>
+ * Publishes {@value #METER_NAME} tagged with the mapped HTTP methods, the URI pattern, the handler and the outcome
+ * (status series). The timers of every {@code @RequestMapping} method are registered once the context is refreshed,
+ * one per outcome, and looked up by the handler's {@link Method}; recording a request is a map lookup and a
+ * {@link Timer#record(long, TimeUnit)}, with no tag or {@code KeyValues} building as in Spring Boot's
+ * {@code http.server.requests} observation, which {@code management.observations.enable.http.server.requests=false}
+ * switches off.
+ * </p>
+ * <p>
+ * The start time of a request is kept in a per-thread slot, reused across the requests of a pooled thread (with
+ * virtual threads, every request thread allocates its own). Asynchronous requests (streaming bodies,
+ * {@code Callable}) complete on another thread, so their start time is copied to a request attribute when the first
+ * dispatch goes async, and they are timed until the async dispatch completes. Requests not handled by a controller
+ * method, e.g. static resources, share one set of timers with the {@code UNKNOWN} URI.
+ * </p>
+ */
+@Component
+public class HandlerMetricsInterceptor implements AsyncHandlerInterceptor, ApplicationListener<ContextRefreshedEvent> {
+
+    /**
+     * Name of the request latency timers.
+     */
+    public static final String METER_NAME = "app.http.server.requests";
+
+    private static final String START_ATTRIBUTE = HandlerMetricsInterceptor.class.getName() + ".start";
+    private static final HttpStatus.Series[] OUTCOMES = HttpStatus.Series.values();
+    private static final ThreadLocal<long[]> START = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+    private final Timer[] unknown;
+
+    public HandlerMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+        this.unknown = register("*", "UNKNOWN", "none");
+    }
+
+    /**
+     * Registers the timers of every controller method once the handler mappings are initialized.
+     *
+     * @param event the context refreshed event
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class)
+                .values().forEach(mapping -> registerHandlers(mapping.getHandlerMethods()));
+    }
+
+    /**
+     * Registers the timers of the given controller methods.
+     *
+     * @param handlerMethods the controller methods, by request mapping
+     */
+    public void registerHandlers(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        handlerMethods.forEach((info, handlerMethod) -> timers.computeIfAbsent(handlerMethod.getMethod(),
+                method -> register(methods(info), uri(info), handlerName(handlerMethod))));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async dispatch keeps the start time of the initial dispatch
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            START.get()[0] = System.nanoTime();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        request.setAttribute(START_ATTRIBUTE, START.get()[0]);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        long start;
+        DispatcherType dispatcherType = request.getDispatcherType();
+        if (dispatcherType == DispatcherType.REQUEST) {
+            start = START.get()[0];
+        } else if (dispatcherType == DispatcherType.ASYNC
+                && request.getAttribute(START_ATTRIBUTE) instanceof Long asyncStart) {
+            start = asyncStart;
+        } else {
+            return;
+        }
+        Timer[] handlerTimers = unknown;
+        if (handler instanceof HandlerMethod handlerMethod) {
+            handlerTimers = timers.get(handlerMethod.getMethod());
+            if (handlerTimers == null) {
+                handlerTimers = timers.computeIfAbsent(handlerMethod.getMethod(),
+                        method -> register("*", "UNKNOWN", handlerName(handlerMethod)));
+            }
+        }
+        // An unresolved exception still becomes a 500 once it leaves the servlet
+        int status = ex != null ? HttpStatus.INTERNAL_SERVER_ERROR.value() : response.getStatus();
+        int outcome = Math.min(Math.max(status / 100 - 1, 0), OUTCOMES.length - 1);
+        handlerTimers[outcome].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer[] register(String methods, String uri, String handler) {
+        Timer[] outcomes = new Timer[OUTCOMES.length];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = Timer.builder(METER_NAME)
+                    .description("Latency of requests handled by controller methods")
+                    .tag("method", methods)
+                    .tag("uri", uri)
+                    .tag("handler", handler)
+                    .tag("outcome", OUTCOMES[i].name())
+                    .register(registry);
+        }
+        return outcomes;
+    }
+
+    private static String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + '#' + handlerMethod.getMethod().getName();
+    }
+
+    private static String methods(RequestMappingInfo info) {
+        Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+        if (methods.isEmpty()) {
+            return "*";
+        }
+        Set<String> names = new TreeSet<>();
+        methods.forEach(method -> names.add(method.name()));
+        return String.join(",", names);
+    }
+
+    private static String uri(RequestMappingInfo info) {
+        Set<String> patterns = info.getPatternValues();
+        return patterns.isEmpty() ? "/" : String.join("|", new TreeSet<>(patterns));
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.athomic.app.web;
+
+import com.athomic.app.util.Assert;
+import com.athomic.app.util.CollectionsUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * {@link StreamingResponseBody} that writes the elements of a {@link Stream} as JSON, one element at a time.
+ * <p>
+ * Two layouts are supported:
+ * <ul>
+ *     <li>NDJSON ({@code application/x-ndjson}): one JSON document per line.</li>
+ *     <li>JSON array ({@code application/json}): a single array, sent with chunked transfer encoding.</li>
+ * </ul>
+ * Elements are pulled from the source only as fast as the servlet output stream accepts them, because every flush
+ * blocks until the container has taken the bytes. Memory use therefore stays constant regardless of the number of
+ * elements. If the client disconnects, the next write fails with an {@link IOException}, iteration stops and the
+ * source stream is closed (releasing, for example, an open database cursor).
+ * </p>
+ *
+ * @param <T> the type of the streamed elements
+ */
+public final class JsonStreamingResponseBody<T> implements StreamingResponseBody {
+
+    private static final int DEFAULT_FLUSH_INTERVAL = 128;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final Stream<T> source;
+    private final boolean array;
+    private final int flushInterval;
+
+    private JsonStreamingResponseBody(ObjectMapper objectMapper, Stream<T> source, boolean array, int flushInterval) {
+        Assert.notNull(objectMapper, "objectMapper cannot be null.");
+        Assert.notNull(source, "source cannot be null.");
+        Assert.isTrue(flushInterval > 0, "flushInterval must be greater than 0.");
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.source = source;
+        this.array = array;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Creates a body that writes the stream as newline-delimited JSON.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to serialize the elements
+     * @param source       the elements to write; closed once writing ends
+     * @param <T>          the type of the elements
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public static <T> JsonStreamingResponseBody<T> ndjson(ObjectMapper objectMapper, Stream<T> source) {
+        return new JsonStreamingResponseBody<>(objectMapper, source, false, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a body that writes the stream as a single JSON array.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to serialize the elements
+     * @param source       the elements to write; closed once writing ends
+     * @param <T>          the type of the elements
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public static <T> JsonStreamingResponseBody<T> array(ObjectMapper objectMapper, Stream<T> source) {
+        return new JsonStreamingResponseBody<>(objectMapper, source, true, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a body that writes a collection as newline-delimited JSON; a {@code null} collection writes nothing.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to serialize the elements
+     * @param collection   the elements to write
+     * @param <T>          the type of the elements
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public static <T> JsonStreamingResponseBody<T> ndjson(ObjectMapper objectMapper, Collection<T> collection) {
+        return ndjson(objectMapper, CollectionsUtils.safeStream(collection));
+    }
+
+    /**
+     * Creates a body that writes a collection as a single JSON array; a {@code null} collection writes {@code []}.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to serialize the elements
+     * @param collection   the elements to write
+     * @param <T>          the type of the elements
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public static <T> JsonStreamingResponseBody<T> array(ObjectMapper objectMapper, Collection<T> collection) {
+        return array(objectMapper, CollectionsUtils.safeStream(collection));
+    }
+
+    /**
+     * Returns a copy of this body that flushes to the client every {@code flushInterval} elements.
+     * <p>
+     * Smaller intervals lower the time to first byte and the buffered memory; larger ones reduce the number of writes.
+     * </p>
+     *
+     * @param flushInterval the number of elements written between flushes (must be greater than 0)
+     * @return a new {@link JsonStreamingResponseBody}
+     */
+    public JsonStreamingResponseBody<T> flushEvery(int flushInterval) {
+        return new JsonStreamingResponseBody<>(objectMapper, source, array, flushInterval);
+    }
+
+    /**
+     * Wraps this body in a {@code 200 OK} {@link ResponseEntity} with the matching content type.
+     * <p>
+     * When called on a request thread, this also opts the current request out of ETag body buffering, which would
+     * otherwise hold the whole stream in memory.
+     * </p>
+     *
+     * @return a {@link ResponseEntity} ready to be returned from a controller
+     */
+    public ResponseEntity<StreamingResponseBody> toResponseEntity() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            ShallowEtagHeaderFilter.disableContentCaching(servletAttributes.getRequest());
+        }
+        return ResponseEntity.ok()
+                .contentType(array ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                .body(this);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (Stream<T> elements = source;
+             JsonGenerator generator = writer.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            if (array) {
+                generator.writeStartArray();
+            }
+            Iterator<T> iterator = elements.iterator();
+            int sinceFlush = 0;
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (!array) {
+                    generator.writeRaw('\n');
+                }
+                if (++sinceFlush == flushInterval) {
+                    generator.flush();
+                    sinceFlush = 0;
+                }
+            }
+            if (array) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+}
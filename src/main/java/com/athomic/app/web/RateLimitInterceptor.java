@@ -0,0 +1,50 @@
+package com.athomic.app.web;
+
+import com.athomic.app.exception.TooManyRequestsException;
+import com.athomic.app.util.Assert;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds requests of clients that exceed their rate limit.
+ * <p>
+ * Rejected requests never reach the handler: a {@link TooManyRequestsException} is thrown, which
+ * {@code GlobalExceptionHandler} answers with a 429 and a {@code Retry-After} header. Only the initial dispatch of a
+ * request takes a token; the async dispatch that completes a streaming or {@code Callable} response is not limited
+ * again.
+ * </p>
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, ClientKeyResolver clientKeyResolver) {
+        Assert.notNull(rateLimiter, "rateLimiter cannot be null.");
+        Assert.notNull(clientKeyResolver, "clientKeyResolver cannot be null.");
+        this.rateLimiter = rateLimiter;
+        this.clientKeyResolver = clientKeyResolver;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String key = clientKeyResolver.resolve(request);
+        if (key == null) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new TooManyRequestsException(retryAfterSeconds);
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.athomic.app.web;
+
+import com.athomic.app.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token-bucket rate limiter.
+ * <p>
+ * Each client may send {@code burst} requests at once and is then refilled at {@code requestsPerSecond}. Buckets are
+ * implemented with the generic cell rate algorithm: the whole state of a client is its theoretical arrival time, one
+ * {@code long} in an {@link AtomicLong}, so a decision is a map lookup and a compare-and-set, without locks or
+ * allocation. The {@link ConcurrentHashMap} holding the buckets is itself striped, which keeps unrelated clients from
+ * contending with each other.
+ * </p>
+ * <p>
+ * A bucket whose arrival time has passed is full again and behaves exactly like a new one, so idle buckets can be
+ * dropped without losing state. At most {@code maxClients} buckets are kept: when the table is full, idle buckets are
+ * evicted (at most once every {@value #SWEEP_INTERVAL_MILLIS} ms), and if every client is still active, new clients
+ * share a single overflow bucket until room is available again. Memory stays bounded even when clients rotate keys.
+ * </p>
+ */
+public class RateLimiter {
+
+    private static final long SWEEP_INTERVAL_MILLIS = 100;
+
+    private final long emissionNanos;
+    private final long toleranceNanos;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+    private final AtomicLong nextSweep;
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param requestsPerSecond the sustained rate allowed per client (must be greater than 0)
+     * @param burst             the number of requests a client may send at once (must be greater than 0)
+     * @param maxClients        the maximum number of clients tracked individually (must be greater than 0)
+     */
+    public RateLimiter(double requestsPerSecond, int burst, int maxClients) {
+        this(requestsPerSecond, burst, maxClients, System::nanoTime);
+    }
+
+    RateLimiter(double requestsPerSecond, int burst, int maxClients, LongSupplier nanoClock) {
+        Assert.isTrue(requestsPerSecond > 0, "requestsPerSecond must be greater than 0.");
+        Assert.isTrue(burst > 0, "burst must be greater than 0.");
+        Assert.isTrue(maxClients > 0, "maxClients must be greater than 0.");
+        Assert.notNull(nanoClock, "nanoClock cannot be null.");
+        this.emissionNanos = Math.max(1L, Math.round(Duration.ofSeconds(1).toNanos() / requestsPerSecond));
+        this.toleranceNanos = emissionNanos * (burst - 1);
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.overflow = new AtomicLong(now);
+        this.nextSweep = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token from the client's bucket.
+     *
+     * @param key the client key (cannot be {@code null})
+     * @return {@code 0} if the request is allowed, otherwise the number of nanoseconds until the client may retry
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key, now);
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = start - toleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, start + emissionNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of clients currently tracked individually.
+     *
+     * @return the number of buckets
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong register(String key, long now) {
+        if (buckets.size() >= maxClients) {
+            evictIdle(now);
+            if (buckets.size() >= maxClients) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    private void evictIdle(long now) {
+        long due = nextSweep.get();
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + SWEEP_INTERVAL_MILLIS * 1_000_000L)) {
+            return;
+        }
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.athomic.app.web;
+
+import com.athomic.app.validation.Validator;
+import com.athomic.app.validation.Validators;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Validates {@code @RequestBody} arguments with their generated {@link Validator}.
+ * <p>
+ * Applies to every request body whose class has constraint annotations, so controllers get declarative validation
+ * without calling {@link Validators} themselves. All failed constraints are reported together as a
+ * {@link com.athomic.app.exception.ValidationException}, which {@code GlobalExceptionHandler} answers with a 400.
+ * </p>
+ */
+@ControllerAdvice
+public class ValidatingRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return Validators.find(methodParameter.getParameterType()) != null;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        Validators.validate(body);
+        return body;
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.athomic.app.coalescing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingInterceptorTest {
+
+    @Test
+    void coalescesInvocationsWithTheSameKey() throws Exception {
+        Repository target = new Repository();
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvisor(new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(Coalesce.class),
+                new CoalescingInterceptor(10)));
+        Repository proxy = (Repository) factory.getProxy();
+
+        CompletableFuture<String> leader = new CompletableFuture<>();
+        CompletableFuture<String> follower = new CompletableFuture<>();
+        Thread leaderThread = new Thread(() -> leader.complete(proxy.find(1L, "first")));
+        Thread followerThread = new Thread(() -> follower.complete(proxy.find(1L, "second")));
+        leaderThread.start();
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+        followerThread.start();
+        // A different key is not coalesced and must not wait for the blocked call.
+        assertEquals("2:third", proxy.find(2L, "third"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerThread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "follower did not block");
+            Thread.sleep(10);
+        }
+        target.release.countDown();
+
+        assertEquals("1:first", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("1:first", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2, target.loads.get());
+    }
+
+    static class Repository {
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Coalesce(key = "#id")
+        public String find(long id, String label) {
+            loads.incrementAndGet();
+            if (id == 1L) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return id + ":" + label;
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.athomic.app.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CacheConfigTest {
+
+    @Test
+    void namedCachesOverrideDefaults() {
+        CachingProperties properties = properties();
+        properties.getCaches().put("customers", spec(500L, Duration.ofMinutes(30), null));
+
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(properties, List.of());
+
+        Policy<Object, Object> customers = policy(cacheManager, "customers");
+        assertEquals(500, customers.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(30), customers.expireAfterWrite().orElseThrow().getExpiresAfter());
+
+        Policy<Object, Object> other = policy(cacheManager, "other");
+        assertEquals(100, other.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(10), other.expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    void defaultRefreshAppliesToEveryCacheWithALoader() {
+        CachingProperties properties = properties();
+        properties.getDefaults().setRefreshAfterWrite(Duration.ofMinutes(1));
+        properties.getCaches().put("customers", spec(500L, null, null));
+
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(properties,
+                List.of(loader("customers"), loader("prices")));
+
+        assertEquals(Duration.ofMinutes(1),
+                policy(cacheManager, "customers").refreshAfterWrite().orElseThrow().getRefreshesAfter());
+        assertEquals(Duration.ofMinutes(1),
+                policy(cacheManager, "prices").refreshAfterWrite().orElseThrow().getRefreshesAfter());
+        // Caches without a loader cannot refresh and keep the other defaults
+        assertFalse(policy(cacheManager, "other").refreshAfterWrite().isPresent());
+        assertEquals(100, policy(cacheManager, "other").eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshReloadsThroughTheCacheLoader() {
+        CachingProperties properties = properties();
+        properties.getCaches().put("prices", spec(null, null, Duration.ofMinutes(5)));
+
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(properties, List.of(loader("prices")));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("prices");
+        cache.put("a", "stale");
+
+        LoadingCache<Object, Object> nativeCache = assertInstanceOf(LoadingCache.class, cache.getNativeCache());
+
+        assertEquals("prices:a", nativeCache.refresh("a").join());
+    }
+
+    @Test
+    void rejectsNamedCacheRefreshWithoutLoader() {
+        CachingProperties properties = properties();
+        properties.getCaches().put("customers", spec(null, null, Duration.ofMinutes(5)));
+
+        assertThrows(IllegalStateException.class, () -> new CacheConfig().cacheManager(properties, List.of()));
+    }
+
+    @Test
+    void recordsStatisticsBoundAsCacheMeters() {
+        CaffeineCacheManager cacheManager = new CacheConfig().cacheManager(properties(), List.of());
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("customers");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new CacheMetricsRegistrar(registry, List.of(new CaffeineCacheMeterBinderProvider()))
+                .bindCacheToRegistry(cache);
+
+        cache.get("a");
+        cache.put("a", "value");
+        cache.get("a");
+        cache.get("a", () -> "loaded");
+        cache.get("b", () -> "loaded");
+
+        assertEquals(2, registry.get("cache.gets").tags("cache", "customers", "result", "hit")
+                .functionCounter().count());
+        assertEquals(2, registry.get("cache.gets").tags("cache", "customers", "result", "miss")
+                .functionCounter().count());
+        assertEquals(1, cache.getNativeCache().stats().loadSuccessCount());
+    }
+
+    private static Policy<Object, Object> policy(CaffeineCacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache().policy();
+    }
+
+    private static CachingProperties properties() {
+        CachingProperties properties = new CachingProperties();
+        properties.setDefaults(spec(100L, Duration.ofMinutes(10), null));
+        return properties;
+    }
+
+    private static CachingProperties.Spec spec(Long maximumSize, Duration expireAfterWrite,
+                                               Duration refreshAfterWrite) {
+        CachingProperties.Spec spec = new CachingProperties.Spec();
+        spec.setMaximumSize(maximumSize);
+        spec.setExpireAfterWrite(expireAfterWrite);
+        spec.setRefreshAfterWrite(refreshAfterWrite);
+        return spec;
+    }
+
+    private static RefreshingCacheLoader<Object, Object> loader(String cacheName) {
+        return new RefreshingCacheLoader<>() {
+            @Override
+            public String cacheName() {
+                return cacheName;
+            }
+
+            @Override
+            public Object load(Object key) {
+                return cacheName + ":" + key;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.athomic.app.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorLogThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, Long> reported = new LinkedHashMap<>();
+
+    @Test
+    void logsFirstOccurrencesPerWindowAndReportsSuppressedCountWithNextLoggedOne() {
+        ErrorLogThrottle throttle = new ErrorLogThrottle(2, Duration.ofSeconds(60), 16, clock::get);
+        IllegalStateException ex = new IllegalStateException();
+
+        assertEquals(0, throttle.tryAcquire(ex));
+        assertEquals(0, throttle.tryAcquire(ex));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire(ex));
+        }
+
+        clock.addAndGet(60 * SECOND);
+        assertEquals(5, throttle.tryAcquire(ex));
+        assertEquals(0, throttle.tryAcquire(ex));
+    }
+
+    @Test
+    void fingerprintsByTypeAndRootCauseType() {
+        ErrorLogThrottle throttle = new ErrorLogThrottle(1, Duration.ofSeconds(60), 16, clock::get);
+
+        assertEquals(0, throttle.tryAcquire(new IllegalStateException(new IOException())));
+        assertEquals(0, throttle.tryAcquire(new IllegalStateException(new SQLException())));
+        assertEquals(0, throttle.tryAcquire(new IllegalStateException()));
+        assertEquals(ErrorLogThrottle.SUPPRESSED,
+                throttle.tryAcquire(new IllegalStateException(new RuntimeException(new IOException()))));
+        assertEquals(3, throttle.size());
+    }
+
+    @Test
+    void reportsSuppressedCountOnceTheWindowIsOver() {
+        ErrorLogThrottle throttle = new ErrorLogThrottle(1, Duration.ofSeconds(60), 16, clock::get);
+        for (int i = 0; i < 4; i++) {
+            throttle.tryAcquire(new IllegalStateException(new IOException()));
+        }
+
+        throttle.reportExpired(reported::put);
+        assertEquals(Map.of(), reported);
+
+        clock.addAndGet(60 * SECOND);
+        throttle.reportExpired(reported::put);
+        assertEquals(Map.of("java.lang.IllegalStateException caused by java.io.IOException", 3L), reported);
+        // Reported windows are evicted, and a later occurrence starts from a clean count
+        assertEquals(0, throttle.size());
+        assertEquals(0, throttle.tryAcquire(new IllegalStateException(new IOException())));
+    }
+
+    @Test
+    void sharesOverflowWindowInsteadOfResettingWhenFull() {
+        ErrorLogThrottle throttle = new ErrorLogThrottle(1, Duration.ofSeconds(60), 2, clock::get);
+
+        assertEquals(0, throttle.tryAcquire(new IllegalStateException()));
+        assertEquals(0, throttle.tryAcquire(new IllegalArgumentException()));
+        assertEquals(0, throttle.tryAcquire(new UnsupportedOperationException()));
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire(new ArithmeticException()));
+        // Tracked fingerprints keep their windows
+        assertEquals(ErrorLogThrottle.SUPPRESSED, throttle.tryAcquire(new IllegalStateException()));
+        assertEquals(2, throttle.size());
+
+        throttle.reportAll(reported::put);
+        assertEquals(Map.of("java.lang.IllegalStateException", 1L, "other errors", 1L), reported);
+    }
+
+}
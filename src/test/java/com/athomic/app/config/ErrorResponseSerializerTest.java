@@ -0,0 +1,79 @@
+package com.athomic.app.config;
+
+import com.athomic.app.dto.response.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ErrorResponseSerializerTest {
+
+    @Test
+    void writesCompactBodyAndReusesIt() throws Exception {
+        ObjectMapper mapper = mapper(JsonMapper.builder());
+        ErrorResponse response = new ErrorResponse(404, "Not Found", "Customer 7 not found");
+
+        String expected = "{\"status\":404,\"error\":\"Not Found\",\"message\":\"Customer 7 not found\"}";
+        assertEquals(expected, mapper.writeValueAsString(response));
+        assertEquals(expected, mapper.writeValueAsString(new ErrorResponse(404, "Not Found", "Customer 7 not found")));
+        assertEquals("{\"status\":500,\"error\":\"Internal Server Error\",\"message\":null}",
+                mapper.writeValueAsString(new ErrorResponse(500, "Internal Server Error", null)));
+    }
+
+    @Test
+    void honoursNonNullInclusion() throws Exception {
+        ErrorResponseSerializer serializer = new ErrorResponseSerializer();
+        ErrorResponse response = new ErrorResponse(500, "Internal Server Error", null);
+        // Cached with the default configuration first
+        mapper(JsonMapper.builder(), serializer).writeValueAsString(response);
+
+        ObjectMapper mapper = mapper(JsonMapper.builder()
+                .serializationInclusion(JsonInclude.Include.NON_NULL), serializer);
+
+        assertEquals("{\"status\":500,\"error\":\"Internal Server Error\"}", mapper.writeValueAsString(response));
+    }
+
+    @Test
+    void honoursNonEmptyInclusion() throws Exception {
+        ObjectMapper mapper = mapper(JsonMapper.builder().serializationInclusion(JsonInclude.Include.NON_EMPTY));
+
+        assertEquals("{\"status\":400,\"error\":\"Bad Request\"}",
+                mapper.writeValueAsString(new ErrorResponse(400, "Bad Request", "")));
+    }
+
+    @Test
+    void honoursIndentOutput() throws Exception {
+        ObjectMapper mapper = mapper(JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT));
+
+        String json = mapper.writeValueAsString(new ErrorResponse(404, "Not Found", "missing"));
+
+        assertEquals(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsString(new ObjectMapper().readTree(json)), json);
+    }
+
+    @Test
+    void honoursNonAsciiEscaping() throws Exception {
+        ErrorResponseSerializer serializer = new ErrorResponseSerializer();
+        ErrorResponse response = new ErrorResponse(404, "Not Found", "Canci\u00f3n no encontrada");
+        mapper(JsonMapper.builder(), serializer).writeValueAsString(response);
+
+        ObjectMapper mapper = mapper(JsonMapper.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII), serializer);
+
+        assertEquals("{\"status\":404,\"error\":\"Not Found\",\"message\":\"Canci\\u00F3n no encontrada\"}",
+                mapper.writeValueAsString(response));
+    }
+
+    private static ObjectMapper mapper(JsonMapper.Builder builder) {
+        return mapper(builder, new ErrorResponseSerializer());
+    }
+
+    private static ObjectMapper mapper(JsonMapper.Builder builder, ErrorResponseSerializer serializer) {
+        return builder.addModule(new SimpleModule().addSerializer(ErrorResponse.class, serializer)).build();
+    }
+
+}
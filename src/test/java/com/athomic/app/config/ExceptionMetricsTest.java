@@ -0,0 +1,28 @@
+package com.athomic.app.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExceptionMetricsTest {
+
+    @Test
+    void tagsAnonymousExceptionTypesByBinaryName() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExceptionMetrics.Recorder recorder = new ExceptionMetrics(registry).forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
+        RuntimeException anonymous = new RuntimeException() {
+        };
+
+        recorder.record(anonymous);
+        recorder.record(anonymous);
+        recorder.record(new IllegalStateException());
+
+        assertEquals(2, registry.get(ExceptionMetrics.METER_NAME)
+                .tags("status", "500", "exception", anonymous.getClass().getName()).counter().count());
+        assertEquals(1, registry.get(ExceptionMetrics.METER_NAME)
+                .tags("exception", IllegalStateException.class.getName()).counter().count());
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.athomic.app.config;
+
+import com.athomic.app.dto.response.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GlobalExceptionHandlerTest {
+
+    @Test
+    void responseCacheReusesResponsesForRepeatedMessages() {
+        GlobalExceptionHandler.ResponseCache cache = new GlobalExceptionHandler.ResponseCache(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<ErrorResponse> response = cache.get("Customer not found.");
+
+        assertSame(response, cache.get("Customer not found."));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(new ErrorResponse(404, "Not Found", "Customer not found."), response.getBody());
+    }
+
+    @Test
+    void responseCacheDoesNotCacheNullMessages() {
+        GlobalExceptionHandler.ResponseCache cache = new GlobalExceptionHandler.ResponseCache(HttpStatus.BAD_REQUEST);
+
+        ResponseEntity<ErrorResponse> response = cache.get(null);
+
+        assertNull(response.getBody().getMessage());
+        assertNotSame(response, cache.get(null));
+    }
+
+    @Test
+    void responseCacheStopsCachingAtTheBound() {
+        GlobalExceptionHandler.ResponseCache cache = new GlobalExceptionHandler.ResponseCache(HttpStatus.BAD_REQUEST);
+        for (int i = 0; i < GlobalExceptionHandler.ResponseCache.MAX_CACHED_MESSAGES; i++) {
+            cache.get("id " + i + " is invalid.");
+        }
+
+        assertSame(cache.get("id 0 is invalid."), cache.get("id 0 is invalid."));
+        assertNotSame(cache.get("id -1 is invalid."), cache.get("id -1 is invalid."));
+        assertEquals("id -1 is invalid.", cache.get("id -1 is invalid.").getBody().getMessage());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.athomic.app.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoLocalDateTimeSerializerTest {
+
+    private static final LocalDateTime VALUE = LocalDateTime.of(2024, 3, 5, 7, 8, 9, 123_000_000);
+
+    @Test
+    void writesAndReadsIsoStrings() throws Exception {
+        ObjectMapper mapper = mapper();
+
+        assertEquals("\"2024-03-05T07:08:09.123\"", mapper.writeValueAsString(VALUE));
+        assertEquals(VALUE, mapper.readValue("\"2024-03-05T07:08:09.123\"", LocalDateTime.class));
+        assertEquals("{\"at\":\"2024-03-05T07:08:09.123\"}", mapper.writeValueAsString(new Plain(VALUE)));
+        assertEquals(VALUE, mapper.readValue("{\"at\":\"2024-03-05T07:08:09.123\"}", Plain.class).at);
+    }
+
+    @Test
+    void delegatesPatternFormats() throws Exception {
+        ObjectMapper mapper = mapper();
+
+        assertEquals("{\"at\":\"05/03/2024 07:08\"}", mapper.writeValueAsString(new Patterned(VALUE)));
+        assertEquals(LocalDateTime.of(2024, 3, 5, 7, 8),
+                mapper.readValue("{\"at\":\"05/03/2024 07:08\"}", Patterned.class).at);
+    }
+
+    @Test
+    void delegatesArrayShapes() throws Exception {
+        ObjectMapper mapper = mapper();
+
+        assertEquals("{\"at\":[2024,3,5,7,8,9,123000000]}", mapper.writeValueAsString(new Shaped(VALUE)));
+        assertEquals(VALUE, mapper.readValue("{\"at\":[2024,3,5,7,8,9,123000000]}", Shaped.class).at);
+    }
+
+    @Test
+    void delegatesTimestampsWhenEnabled() throws Exception {
+        ObjectMapper mapper = mapper();
+
+        assertEquals("[2024,3,5,7,8,9,123000000]",
+                mapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).writeValueAsString(VALUE));
+    }
+
+    @Test
+    void reportsInvalidTextLikeTheModule() {
+        ObjectMapper mapper = mapper();
+
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"2024-13-05T07:08\"", LocalDateTime.class));
+    }
+
+    private static ObjectMapper mapper() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer());
+        module.addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer());
+        // As configured by Spring Boot
+        return JsonMapper.builder()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .addModule(new JavaTimeModule())
+                .addModule(module)
+                .build();
+    }
+
+    static class Plain {
+
+        public LocalDateTime at;
+
+        Plain() {
+        }
+
+        Plain(LocalDateTime at) {
+            this.at = at;
+        }
+    }
+
+    static class Patterned {
+
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+        public LocalDateTime at;
+
+        Patterned() {
+        }
+
+        Patterned(LocalDateTime at) {
+            this.at = at;
+        }
+    }
+
+    static class Shaped {
+
+        @JsonFormat(shape = JsonFormat.Shape.ARRAY)
+        public LocalDateTime at;
+
+        Shaped() {
+        }
+
+        Shaped(LocalDateTime at) {
+            this.at = at;
+        }
+    }
+
+}
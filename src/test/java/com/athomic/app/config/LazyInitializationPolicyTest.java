@@ -0,0 +1,50 @@
+package com.athomic.app.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyInitializationPolicyTest {
+
+    @Test
+    void withoutIncludePatternsEveryBeanButExcludedOnesIsLazy() {
+        LazyInitializationPolicy policy = new LazyInitializationPolicy(new String[0], new String[]{"dataSource"});
+
+        assertFalse(policy.isExcluded("reportService", definition(Object.class), Object.class));
+        assertTrue(policy.isExcluded("dataSource", definition(DataSource.class), DataSource.class));
+    }
+
+    @Test
+    void includePatternsMatchBeanAndClassNames() {
+        LazyInitializationPolicy policy = new LazyInitializationPolicy(
+                new String[]{"*Report*", "javax.sql.*"}, new String[]{"dailyReport"});
+
+        assertFalse(policy.isExcluded("monthlyReportService", definition(Object.class), Object.class));
+        assertFalse(policy.isExcluded("dataSource", definition(DataSource.class), DataSource.class));
+        assertTrue(policy.isExcluded("dailyReport", definition(Object.class), Object.class));
+        assertTrue(policy.isExcluded("customerService", definition(Object.class), Object.class));
+    }
+
+    @Test
+    void requestHotPathStaysEager() {
+        LazyInitializationPolicy policy = new LazyInitializationPolicy(new String[]{"*"}, new String[0]);
+
+        assertTrue(policy.isExcluded("customerController", definition(CustomerController.class), CustomerController.class));
+        assertTrue(policy.isExcluded("objectMapper", definition(ObjectMapper.class), ObjectMapper.class));
+    }
+
+    private static RootBeanDefinition definition(Class<?> type) {
+        return new RootBeanDefinition(type);
+    }
+
+    @RestController
+    static class CustomerController {
+    }
+
+}
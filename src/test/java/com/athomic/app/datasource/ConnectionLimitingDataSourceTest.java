@@ -0,0 +1,74 @@
+package com.athomic.app.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionLimitingDataSourceTest {
+
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:guard;DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void releasesPermitWhenConnectionIsClosed() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 2, Duration.ofSeconds(1));
+
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        connection.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void releasesPermitOnlyOnceOnDoubleClose() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 2, Duration.ofSeconds(1));
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void failsAfterAcquireTimeoutWhenAllPermitsAreTaken() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(50));
+
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+            assertEquals(0, dataSource.getAvailablePermits());
+        }
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void closesTargetPool() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(pool, 2, Duration.ofSeconds(1));
+
+        dataSource.close();
+
+        assertTrue(pool.isClosed());
+    }
+
+}
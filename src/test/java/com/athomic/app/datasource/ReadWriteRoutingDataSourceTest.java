@@ -0,0 +1,126 @@
+package com.athomic.app.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicReference<String> client = new AtomicReference<>();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica1;
+    private HikariDataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica1");
+        replica2 = database("replica2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica1.close();
+        replica2.close();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplicasRoundRobin() {
+        Routing routing = routing(ReadWriteRoutingDataSource.Selection.ROUND_ROBIN);
+
+        assertEquals(List.of("replica1", "replica2", "replica1"),
+                List.of(routing.read(), routing.read(), routing.read()));
+        assertEquals("primary", routing.write());
+        assertEquals("primary", routing.jdbc.queryForObject("select name from server", String.class));
+    }
+
+    @Test
+    void pinsClientToPrimaryAfterWriteForStickinessWindow() {
+        Routing routing = routing(ReadWriteRoutingDataSource.Selection.ROUND_ROBIN);
+        client.set("alice");
+
+        routing.write();
+        assertEquals("primary", routing.read());
+
+        client.set("bob");
+        assertEquals("replica1", routing.read());
+
+        client.set("alice");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertEquals("replica2", routing.read());
+    }
+
+    @Test
+    void leastLoadedSelectionAvoidsBusyReplica() throws Exception {
+        Routing routing = routing(ReadWriteRoutingDataSource.Selection.LEAST_LOADED);
+
+        try (Connection ignored = replica1.getConnection()) {
+            assertEquals(List.of("replica2", "replica2"), List.of(routing.read(), routing.read()));
+        }
+    }
+
+    private Routing routing(ReadWriteRoutingDataSource.Selection selection) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, List.of(replica1, replica2),
+                selection, Duration.ofSeconds(5), 100, client::get, clock::get);
+        return new Routing(new LazyConnectionDataSourceProxy(routing));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists server (name varchar(20))");
+        jdbc.update("delete from server");
+        jdbc.update("insert into server values (?)", name);
+        return dataSource;
+    }
+
+    /**
+     * Runs transactions through the routing data source, reporting which database served them.
+     */
+    private static final class Routing {
+
+        private final JdbcTemplate jdbc;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        private Routing(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        String read() {
+            return readOnly.execute(status -> jdbc.queryForObject("select name from server", String.class));
+        }
+
+        String write() {
+            return readWrite.execute(status -> {
+                jdbc.update("update server set name = name");
+                return jdbc.queryForObject("select name from server", String.class);
+            });
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.athomic.app.job;
+
+import com.athomic.app.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobEngineTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void runsJobsOfAKeyInOrderAndBatchesQueuedJobs() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        try (JobEngine<Job> engine = engine(options(4, 250, 10, 1), jobs -> {
+            release.await();
+            batchSizes.add(jobs.size());
+            for (Job job : jobs) {
+                handled.computeIfAbsent(job.key(), key -> Collections.synchronizedList(new ArrayList<>())).add(job.seq());
+            }
+        })) {
+            for (int seq = 0; seq < 50; seq++) {
+                for (String key : List.of("a", "b", "c", "d", "e")) {
+                    engine.submit(key, new Job(key, seq));
+                }
+            }
+            release.countDown();
+        }
+
+        assertEquals(5, handled.size());
+        handled.values().forEach(seqs -> assertEquals(seqs.stream().sorted().toList(), seqs));
+        handled.values().forEach(seqs -> assertEquals(50, seqs.size()));
+        assertTrue(batchSizes.stream().anyMatch(size -> size > 1));
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+        assertEquals(250, registry.get("app.jobs.completed").counter().count());
+    }
+
+    @Test
+    void rejectsJobsWhenTheLaneIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (JobEngine<Job> engine = engine(options(1, 2, 1, 1), jobs -> {
+            started.countDown();
+            release.await();
+        })) {
+            engine.submit(new Job("a", 0));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            engine.submit(new Job("a", 1));
+            engine.submit(new Job("a", 2));
+
+            assertThrows(TooManyRequestsException.class, () -> engine.submit(new Job("a", 3)));
+            assertEquals(2, engine.queued());
+            release.countDown();
+        }
+
+        assertEquals(1, registry.get("app.jobs.rejected").counter().count());
+        assertEquals(3, registry.get("app.jobs.completed").counter().count());
+    }
+
+    @Test
+    void retriesFailedBatchesThenDropsThem() {
+        List<Integer> attempts = Collections.synchronizedList(new ArrayList<>());
+
+        JobEngine<Job> engine = engine(options(1, 10, 1, 3), jobs -> {
+            attempts.add(jobs.get(0).seq());
+            if (jobs.get(0).seq() == 0) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        engine.submit(new Job("a", 0));
+        engine.submit(new Job("a", 1));
+        engine.close();
+
+        assertEquals(List.of(0, 0, 0, 1), attempts);
+        assertEquals(2, registry.get("app.jobs.retries").counter().count());
+        assertEquals(1, registry.get("app.jobs.failed").counter().count());
+        assertEquals(1, registry.get("app.jobs.completed").counter().count());
+        assertThrows(IllegalStateException.class, () -> engine.submit(new Job("a", 2)));
+    }
+
+    @Test
+    void stopsRetryingWhenCloseInterruptsTheHandler() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        List<Integer> attempts = Collections.synchronizedList(new ArrayList<>());
+
+        JobEngine<Job> engine = engine(new JobEngine.Options(1, 10, JobEngine.Overflow.REJECT, Duration.ZERO, 1, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(50)), jobs -> {
+            attempts.add(jobs.get(0).seq());
+            started.countDown();
+            new CountDownLatch(1).await();
+        });
+        engine.submit(new Job("a", 0));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        engine.submit(new Job("a", 1));
+        engine.close();
+
+        // The queued job is abandoned by close(), the interrupted one is failed once by the worker
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("app.jobs.failed").counter().count() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertEquals(2, registry.get("app.jobs.failed").counter().count());
+        assertEquals(List.of(0), attempts);
+        assertEquals(0, registry.get("app.jobs.retries").counter().count());
+    }
+
+    private JobEngine<Job> engine(JobEngine.Options options, JobHandler<Job> handler) {
+        return new JobEngine<>("test", handler, options, new CustomizableThreadFactory("job-test-"), registry);
+    }
+
+    private static JobEngine.Options options(int lanes, int queueCapacity, int maxBatchSize, int maxAttempts) {
+        return new JobEngine.Options(lanes, queueCapacity, JobEngine.Overflow.REJECT, Duration.ZERO, maxBatchSize,
+                maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(10));
+    }
+
+    private record Job(String key, int seq) {
+    }
+
+}
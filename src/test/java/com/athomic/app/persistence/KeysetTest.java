@@ -0,0 +1,61 @@
+package com.athomic.app.persistence;
+
+import com.athomic.app.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetTest {
+
+    @Test
+    void cursorRoundTripsKeyValues() {
+        Keyset keyset = Keyset.ascending("a", "b", "c", "d", "e", "f", "g", "h", "i");
+        Object[] values = {42L, 7, "été ☃", UUID.randomUUID(), new BigDecimal("-12.3400"),
+                LocalDate.of(2024, 2, 29), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6),
+                Instant.ofEpochSecond(1_700_000_000L, 123), OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 6, ZoneOffset.ofHours(-3))};
+
+        String cursor = keyset.encode(values);
+
+        assertArrayEquals(values, keyset.decode(cursor));
+        assertEquals(cursor, cursor.replaceAll("[^A-Za-z0-9_-]", ""));
+    }
+
+    @Test
+    void rejectsMalformedCursorsAndCursorsOfOtherKeysets() {
+        Keyset keyset = Keyset.descending("createdAt", "id");
+        String cursor = keyset.encode(LocalDateTime.of(2024, 1, 1, 0, 0), 5L);
+
+        for (String invalid : new String[]{"", "!!!", "AAAA", cursor.substring(0, cursor.length() - 2), cursor + "AA",
+                "x".repeat(5000)}) {
+            assertThrows(InvalidCursorException.class, () -> keyset.decode(invalid), invalid);
+        }
+        assertThrows(InvalidCursorException.class, () -> Keyset.ascending("createdAt", "id").decode(cursor));
+        assertThrows(InvalidCursorException.class, () -> Keyset.descending("updatedAt", "id").decode(cursor));
+    }
+
+    @Test
+    void buildsRowValuePredicateOrExpandedFormForMixedDirections() {
+        Keyset same = Keyset.descending("createdAt", "id");
+        Keyset mixed = Keyset.of(Keyset.Column.desc("priority"), Keyset.Column.asc("createdAt"), Keyset.Column.asc("id"));
+
+        assertEquals("(e.createdAt, e.id) < (:keyset0, :keyset1)", same.predicate("e"));
+        assertEquals("e.createdAt desc, e.id desc", same.orderBy("e"));
+        assertEquals("e.id > :keyset0", Keyset.ascending("id").predicate("e"));
+        assertEquals("(e.priority < :keyset0 or (e.priority = :keyset0 and (e.createdAt > :keyset1"
+                + " or (e.createdAt = :keyset1 and (e.id > :keyset2)))))", mixed.predicate("e"));
+        assertEquals(Map.of("keyset0", 3, "keyset1", 4L), same.parameters(new Object[]{3, 4L}));
+        assertThrows(IllegalArgumentException.class, () -> Keyset.ascending("id; drop table x"));
+    }
+
+}
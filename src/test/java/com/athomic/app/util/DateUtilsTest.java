@@ -0,0 +1,65 @@
+package com.athomic.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateUtilsTest {
+
+    @Test
+    void bulkValidationMatchesSingleIntervalValidation() {
+        Random random = new Random(42);
+        int size = 1_000;
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        LocalDateTime origin = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < size; i++) {
+            starts[i] = origin.plusMinutes(random.nextInt(100_000)).toInstant(ZoneOffset.UTC).toEpochMilli();
+            ends[i] = starts[i] + random.nextLong(-ChronoUnit.DAYS.getDuration().toMillis(), 10 * ChronoUnit.DAYS.getDuration().toMillis());
+        }
+
+        for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.MILLIS, ChronoUnit.MINUTES, ChronoUnit.DAYS}) {
+            // The second bound saturates the internal limit, where end-before-start intervals must stay valid
+            long[] maxDurations = {5 * ChronoUnit.DAYS.getDuration().toMillis() / unit.getDuration().toMillis(),
+                    Long.MAX_VALUE};
+            for (long maxDuration : maxDurations) {
+                BitSet invalid = DateUtils.findInvalidTimeIntervals(starts, ends, maxDuration, unit);
+
+                for (int i = 0; i < size; i++) {
+                    boolean expected = !isValid(starts[i], ends[i], maxDuration, unit);
+                    assertEquals(expected, invalid.get(i), "interval " + i + " in " + unit + " up to " + maxDuration);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bulkValidationOfValidBatchIsEmpty() {
+        long[] starts = new long[130];
+        long[] ends = new long[130];
+        ends[129] = ChronoUnit.HOURS.getDuration().toMillis();
+
+        assertTrue(DateUtils.findInvalidTimeIntervals(starts, ends, 1, ChronoUnit.HOURS).isEmpty());
+        assertEquals(BitSet.valueOf(new long[]{0L, 0L, 2L}),
+                DateUtils.findInvalidTimeIntervals(starts, ends, 59, ChronoUnit.MINUTES));
+    }
+
+    private static boolean isValid(long start, long end, long maxDuration, ChronoUnit unit) {
+        try {
+            DateUtils.validateTimeInterval(LocalDateTime.ofEpochSecond(Math.floorDiv(start, 1000), (int) Math.floorMod(start, 1000) * 1_000_000, ZoneOffset.UTC),
+                    LocalDateTime.ofEpochSecond(Math.floorDiv(end, 1000), (int) Math.floorMod(end, 1000) * 1_000_000, ZoneOffset.UTC),
+                    maxDuration, unit);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.athomic.app.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoDateTimesTest {
+
+    private static final DateTimeFormatter JDK = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Test
+    void formatsLikeTheJdk() {
+        List<LocalDateTime> values = List.of(
+                LocalDateTime.of(2024, 3, 15, 10, 42, 7, 123_000_000),
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(1999, 12, 31, 23, 59, 59, 1),
+                LocalDateTime.of(2024, 2, 29, 12, 0, 0, 100_000_000),
+                LocalDateTime.of(2024, 2, 29, 12, 0, 0, 123_456_000),
+                LocalDateTime.of(0, 1, 1, 0, 0),
+                LocalDateTime.of(12024, 1, 1, 0, 0),
+                LocalDateTime.of(-5, 6, 7, 8, 9, 10),
+                LocalDateTime.MIN,
+                LocalDateTime.MAX);
+
+        for (LocalDateTime value : values) {
+            assertEquals(JDK.format(value), IsoDateTimes.format(value));
+        }
+    }
+
+    @Test
+    void parsesLikeTheJdk() {
+        List<String> texts = List.of(
+                "2024-03-15T10:42:07.123",
+                "2024-03-15T10:42",
+                "2024-03-15T10:42:07",
+                "2024-03-15T10:42:07.1",
+                "2024-03-15T10:42:07.123456789",
+                "2024-03-15T10:42:07.",
+                "2024-03-15t10:42:07",
+                "+12024-03-15T10:42:07",
+                "-0005-06-07T08:09:10");
+
+        for (String text : texts) {
+            assertEquals(LocalDateTime.parse(text, JDK), IsoDateTimes.parse(text), text);
+        }
+    }
+
+    @Test
+    void rejectsWhatTheJdkRejects() {
+        List<String> texts = List.of(
+                "2024-02-30T10:42:07",
+                "2024-03-15T24:00:00",
+                "2024-03-15T10:42:07.1234567890",
+                "2024-03-15T10:4a:07",
+                "2024-03-15 10:42:07",
+                "2024-03-15");
+
+        for (String text : texts) {
+            assertThrows(DateTimeParseException.class, () -> LocalDateTime.parse(text, JDK), text);
+            assertThrows(DateTimeParseException.class, () -> IsoDateTimes.parse(text), text);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.athomic.app.util;
+
+import com.athomic.app.exception.PartitionExecutionException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelPartitionExecutorTest {
+
+    private final List<Integer> numbers = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+
+    @Test
+    void mergesResultsInPartitionOrder() {
+        try (ParallelPartitionExecutor executor = ParallelPartitionExecutor.forkJoin(4, Duration.ofSeconds(5))) {
+            List<Integer> doubled = executor.executeAndMerge(numbers, 7, PartitionUtils::chunkPartition,
+                    partition -> partition.stream().map(n -> n * 2).collect(Collectors.toList()));
+
+            assertEquals(numbers.stream().map(n -> n * 2).collect(Collectors.toList()), doubled);
+        }
+    }
+
+    @Test
+    void propagatesFirstFailure() {
+        try (ParallelPartitionExecutor executor = ParallelPartitionExecutor.forkJoin(4, Duration.ofSeconds(5))) {
+            PartitionExecutionException ex = assertThrows(PartitionExecutionException.class,
+                    () -> executor.execute(numbers, 4, PartitionUtils::chunkPartition, partition -> {
+                        if (partition.contains(500)) {
+                            throw new IllegalStateException("boom");
+                        }
+                        return partition.size();
+                    }));
+
+            assertEquals(2, ex.getPartition());
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void failsPartitionsThatExceedTheTimeout() {
+        try (ParallelPartitionExecutor executor = ParallelPartitionExecutor.forkJoin(2, Duration.ofMillis(50))) {
+            PartitionExecutionException ex = assertThrows(PartitionExecutionException.class,
+                    () -> executor.execute(numbers, 2, PartitionUtils::chunkPartition, partition -> {
+                        try {
+                            Thread.sleep(5_000);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return partition.size();
+                    }));
+
+            assertInstanceOf(TimeoutException.class, ex.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.athomic.app.util;
+
+import com.athomic.app.util.primitive.LongList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionUtilsTest {
+
+    private final List<Integer> numbers = IntStream.range(0, 103).boxed().collect(Collectors.toList());
+
+    @Test
+    void viewsMatchCopyingPartitions() {
+        for (int numPartitions : new int[]{1, 4, 7, 103, 150}) {
+            assertEquals(PartitionUtils.chunkPartition(numbers, numPartitions),
+                    PartitionUtils.chunkPartitionView(numbers, numPartitions));
+            assertEquals(PartitionUtils.roundRobinPartition(numbers, numPartitions),
+                    PartitionUtils.roundRobinPartitionView(numbers, numPartitions));
+        }
+    }
+
+    @Test
+    void viewsFallBackToCopiesForSequentialLists() {
+        List<Integer> linked = new LinkedList<>(numbers);
+
+        assertEquals(PartitionUtils.chunkPartition(numbers, 5), PartitionUtils.chunkPartitionView(linked, 5));
+        assertEquals(PartitionUtils.roundRobinPartition(numbers, 5), PartitionUtils.roundRobinPartitionView(linked, 5));
+    }
+
+    @Test
+    void chunksIteratorsLazily() {
+        Iterator<List<Integer>> chunks = PartitionUtils.chunked(numbers.iterator(), 50);
+        List<List<Integer>> collected = new ArrayList<>();
+        chunks.forEachRemaining(collected::add);
+
+        assertEquals(List.of(50, 50, 3), collected.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(numbers, collected.stream().flatMap(List::stream).collect(Collectors.toList()));
+    }
+
+    @Test
+    void chunksUnboundedStreams() {
+        List<List<Integer>> firstChunks = PartitionUtils.chunked(Stream.iterate(0, i -> i + 1), 10)
+                .limit(3)
+                .collect(Collectors.toList());
+
+        assertEquals(3, firstChunks.size());
+        assertEquals(IntStream.range(20, 30).boxed().collect(Collectors.toList()), firstChunks.get(2));
+    }
+
+    @Test
+    void closesSourceStream() {
+        boolean[] closed = {false};
+        try (Stream<List<Integer>> chunks = PartitionUtils.chunked(numbers.stream().onClose(() -> closed[0] = true), 10)) {
+            assertFalse(chunks.findFirst().isEmpty());
+        }
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void hashPartitionKeepsEqualKeysTogether() {
+        List<List<Integer>> partitions = PartitionUtils.hashPartition(numbers, 4, n -> n % 10);
+
+        for (List<Integer> partition : partitions) {
+            for (Integer n : partition) {
+                assertEquals(PartitionUtils.partitionIndex(n % 10, 4), partitions.indexOf(partition));
+            }
+        }
+        assertEquals(numbers.size(), partitions.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void consistentHashPartitionMovesFewKeysWhenGrowing() {
+        List<Integer> keys = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        List<List<Integer>> before = PartitionUtils.consistentHashPartition(keys, 8, n -> n);
+        List<List<Integer>> after = PartitionUtils.consistentHashPartition(keys, 9, n -> n);
+
+        long moved = IntStream.range(0, 8)
+                .mapToLong(i -> before.get(i).stream().filter(n -> !after.get(i).contains(n)).count())
+                .sum();
+        assertTrue(moved < keys.size() / 4, "moved " + moved + " keys");
+    }
+
+    @Test
+    void weightedPartitionBalancesCost() {
+        List<Integer> weights = List.of(100, 1, 1, 1, 1, 1, 1, 1, 1, 1, 50, 50);
+        List<List<Integer>> partitions = PartitionUtils.weightedPartition(weights, 3, Integer::longValue);
+
+        List<Integer> loads = partitions.stream()
+                .map(p -> p.stream().mapToInt(Integer::intValue).sum())
+                .collect(Collectors.toList());
+        assertEquals(List.of(100, 55, 54), loads.stream().sorted((a, b) -> b - a).collect(Collectors.toList()));
+    }
+
+    @Test
+    void primitivePartitionsMatchBoxedPartitions() {
+        LongList ids = new LongList();
+        numbers.forEach(n -> ids.add(n * 7919L - 50_000));
+        List<Long> boxed = ids.stream().boxed().collect(Collectors.toList());
+
+        for (int numPartitions : new int[]{1, 4, 7, 150}) {
+            assertEquals(PartitionUtils.chunkPartition(boxed, numPartitions), toBoxed(PartitionUtils.chunkPartition(ids, numPartitions)));
+            assertEquals(PartitionUtils.roundRobinPartition(boxed, numPartitions), toBoxed(PartitionUtils.roundRobinPartition(ids, numPartitions)));
+            assertEquals(PartitionUtils.hashPartition(boxed, numPartitions, id -> id), toBoxed(PartitionUtils.hashPartition(ids, numPartitions)));
+        }
+    }
+
+    private static List<List<Long>> toBoxed(List<LongList> partitions) {
+        return partitions.stream()
+                .map(partition -> partition.stream().boxed().collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.athomic.app.util;
+
+import com.athomic.app.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(CALLERS);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(singleFlight, () -> {
+            loads.incrementAndGet();
+            release.await();
+            return "value";
+        }, release);
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlight());
+        assertEquals("next", singleFlight.execute("key", () -> "next"));
+    }
+
+    @Test
+    void concurrentCallersShareTheException() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(CALLERS);
+        IllegalStateException failure = new IllegalStateException("boom");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(singleFlight, () -> {
+            release.await();
+            throw failure;
+        }, release);
+
+        for (Future<String> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+    }
+
+    @Test
+    void shedsCallersBeyondMaxWaiters() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                release.await();
+                return "value";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(TooManyRequestsException.class, () -> singleFlight.execute("key", () -> "other"));
+            assertEquals("other", singleFlight.execute("other-key", () -> "other"));
+
+            release.countDown();
+            assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts {@value #CALLERS} callers of the same key, releases the loader once every caller is blocked (the leader
+     * in the loader, the others waiting for its call) and returns their results.
+     */
+    private static List<Future<String>> runConcurrently(SingleFlight<String, String> singleFlight,
+                                                        Callable<String> loader,
+                                                        CountDownLatch release) throws InterruptedException {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS, runnable -> {
+            Thread thread = new Thread(runnable);
+            threads.add(thread);
+            return thread;
+        });
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("key", loader)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (threads.size() < CALLERS || !threads.stream().allMatch(t -> t.getState() == Thread.State.WAITING)) {
+                assertTrue(System.nanoTime() < deadline, "callers did not block");
+                Thread.sleep(10);
+            }
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
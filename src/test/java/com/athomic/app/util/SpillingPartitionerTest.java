@@ -0,0 +1,79 @@
+package com.athomic.app.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillingPartitionerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void spilledPartitionsMatchHeapPartitions() throws Exception {
+        List<Long> values = LongStream.range(0, 10_007).boxed().collect(Collectors.toList());
+        SpillingPartitioner<Long> partitioner = new SpillingPartitioner<>(ElementCodec.longs(), 1_000, directory);
+
+        for (int numPartitions : new int[]{1, 3, 16, 20_000}) {
+            try (SpillingPartitioner.Partitions<Long> partitions = partitioner.chunkPartition(values, numPartitions)) {
+                assertTrue(partitions.isSpilled());
+                assertEquals(PartitionUtils.chunkPartition(values, numPartitions), collect(partitions));
+            }
+        }
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void switchesModeAtThreshold() {
+        SpillingPartitioner<Long> partitioner = new SpillingPartitioner<>(ElementCodec.longs(), 100, directory);
+        List<Long> small = LongStream.range(0, 100).boxed().collect(Collectors.toList());
+        List<Long> large = LongStream.range(0, 101).boxed().collect(Collectors.toList());
+
+        try (var heap = partitioner.chunkPartition(small.iterator(), 4);
+             var spilled = partitioner.chunkPartition(large.iterator(), 4)) {
+            assertFalse(heap.isSpilled());
+            assertTrue(spilled.isSpilled());
+            assertEquals(PartitionUtils.chunkPartition(small, 4), collect(heap));
+            assertEquals(PartitionUtils.chunkPartition(large, 4), collect(spilled));
+        }
+    }
+
+    @Test
+    void handlesRecordsLargerThanTheBuffer() {
+        List<String> values = IntStream.range(0, 50)
+                .mapToObj(i -> i % 10 == 0 ? "é".repeat(100_000 + i) : "value-" + i)
+                .collect(Collectors.toList());
+        SpillingPartitioner<String> partitioner = new SpillingPartitioner<>(ElementCodec.utf8(), 0, directory);
+
+        try (SpillingPartitioner.Partitions<String> partitions = partitioner.chunkPartition(values, 7)) {
+            assertEquals(PartitionUtils.chunkPartition(values, 7), collect(partitions));
+        }
+    }
+
+    private static <T> List<List<T>> collect(SpillingPartitioner.Partitions<T> partitions) {
+        List<List<T>> result = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            List<T> partition = new ArrayList<>();
+            Iterator<T> iterator = partitions.iterator(i);
+            iterator.forEachRemaining(partition::add);
+            assertEquals(partitions.partitionSize(i), partition.size());
+            result.add(partition);
+        }
+        return result;
+    }
+
+}
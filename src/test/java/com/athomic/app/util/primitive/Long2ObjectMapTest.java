@@ -0,0 +1,50 @@
+package com.athomic.app.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class Long2ObjectMapTest {
+
+    @Test
+    void behavesLikeHashMapUnderRandomOperations() {
+        Random random = new Random(11);
+        Long2ObjectMap<String> map = new Long2ObjectMap<>();
+        Map<Long, String> expected = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) - 100;
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.remove(key), map.remove(key));
+                case 1 -> assertEquals(expected.computeIfAbsent(key, k -> "c" + k), map.computeIfAbsent(key, k -> "c" + k));
+                default -> assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = -200; key < 5_100; key++) {
+            assertEquals(expected.get(key), map.get(key), "key " + key);
+        }
+        Map<Long, String> copy = new HashMap<>();
+        map.forEach(copy::put);
+        assertEquals(expected, copy);
+        assertEquals(expected.size(), map.keySet().size());
+    }
+
+    @Test
+    void computeIfAbsentStoresNothingForNull() {
+        Long2ObjectMap<String> map = new Long2ObjectMap<>();
+
+        assertNull(map.computeIfAbsent(0, k -> null));
+        assertNull(map.computeIfAbsent(42, k -> null));
+
+        assertEquals(0, map.size());
+        assertEquals("x", map.getOrDefault(42, "x"));
+    }
+
+}
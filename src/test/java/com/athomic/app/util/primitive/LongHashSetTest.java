@@ -0,0 +1,57 @@
+package com.athomic.app.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+
+    @Test
+    void behavesLikeHashSetUnderRandomOperations() {
+        Random random = new Random(7);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            long value = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long value = -200; value < 5_100; value++) {
+            assertEquals(expected.contains(value), set.contains(value), "value " + value);
+        }
+        assertEquals(expected, Arrays.stream(set.toArray()).boxed().collect(Collectors.toSet()));
+        assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void iteratesEveryValueOnceIncludingZero() {
+        LongHashSet set = LongHashSet.of(0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE, 1);
+        Set<Long> seen = new HashSet<>();
+
+        PrimitiveIterator.OfLong iterator = set.iterator();
+        while (iterator.hasNext()) {
+            assertTrue(seen.add(iterator.nextLong()));
+        }
+
+        assertEquals(Set.of(0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE), seen);
+        assertTrue(set.remove(0));
+        assertFalse(set.contains(0));
+        assertEquals(4, set.size());
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.athomic.app.util.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LongListTest {
+
+    @Test
+    void growsAndKeepsOrder() {
+        LongList list = new LongList();
+        for (long i = 0; i < 1_000; i++) {
+            list.add(i * 3);
+        }
+        list.addAll(new long[]{-1, -2});
+        list.addAll(LongList.of(-3));
+
+        assertEquals(1_003, list.size());
+        assertEquals(2_997, list.get(999));
+        assertEquals(-3, list.get(1_002));
+        assertEquals(LongStream.range(0, 1_000).map(i -> i * 3).sum() - 6, list.stream().sum());
+        assertEquals(LongList.of(6, 9), list.copyOfRange(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1_003));
+    }
+
+    @Test
+    void intListMirrorsLongList() {
+        IntList list = new IntList(2);
+        IntStream.range(0, 100).forEach(list::add);
+        list.set(0, 500);
+        list.sort();
+
+        assertArrayEquals(IntStream.concat(IntStream.range(1, 100), IntStream.of(500)).toArray(), list.toArray());
+        assertEquals(99, list.indexOf(500));
+    }
+
+}
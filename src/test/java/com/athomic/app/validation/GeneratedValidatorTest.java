@@ -0,0 +1,139 @@
+package com.athomic.app.validation;
+
+import com.athomic.app.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeneratedValidatorTest {
+
+    record CreateOrder(@HasText @Size(max = 10) String customer,
+                       @NotEmpty List<String> items,
+                       @Range(min = 1, max = 100) int quantity,
+                       @Range(min = 0) Long discount) {
+    }
+
+    static class Address {
+
+        @NotNull(message = "The city is required.")
+        private String city;
+
+        @Size(min = 2, max = 2)
+        String country;
+
+        @NotEmpty
+        private Map<String, String> lines;
+
+        Address(String city, String country, Map<String, String> lines) {
+            this.city = city;
+            this.country = country;
+            this.lines = lines;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public Map<String, String> getLines() {
+            return lines;
+        }
+    }
+
+    static class Customer {
+
+        @HasText
+        String name;
+
+        Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    static class VipCustomer extends Customer {
+
+        @Range(min = 1, max = 3)
+        private final int tier;
+
+        VipCustomer(String name, int tier) {
+            super(name);
+            this.tier = tier;
+        }
+
+        public int getTier() {
+            return tier;
+        }
+    }
+
+    static class Guest extends Customer {
+
+        Guest(String name) {
+            super(name);
+        }
+    }
+
+    @Test
+    void collectsEveryViolationInDeclarationOrder() {
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> Validators.validate(new CreateOrder(" ", List.of(), 0, -5L)));
+
+        assertEquals(List.of(
+                new Violation("customer", "customer cannot be blank."),
+                new Violation("items", "items cannot be empty."),
+                new Violation("quantity", "quantity must be between 1 and 100."),
+                new Violation("discount", "discount must be at least 0.")), ex.getViolations());
+        assertEquals("customer cannot be blank. items cannot be empty. quantity must be between 1 and 100. "
+                + "discount must be at least 0.", ex.getMessage());
+        assertInstanceOf(IllegalArgumentException.class, ex);
+    }
+
+    @Test
+    void acceptsValidObjectsAndSkipsNullsForSizeAndRange() {
+        assertDoesNotThrow(() -> Validators.validate(new CreateOrder("acme", List.of("a"), 3, null)));
+        assertDoesNotThrow(() -> Validators.validate(new Address("Lima", null, Map.of("1", "x"))));
+    }
+
+    @Test
+    void readsFieldsThroughGettersOrDirectly() {
+        Violations violations = new Violations();
+        Validators.find(Address.class).validate(new Address(null, "PER", Map.of()), violations);
+
+        assertEquals(List.of(
+                new Violation("city", "The city is required."),
+                new Violation("country", "country size must be between 2 and 2."),
+                new Violation("lines", "lines cannot be empty.")), violations.getViolations());
+    }
+
+    @Test
+    void checksInheritedConstraintsFirst() {
+        ValidationException ex = assertThrows(ValidationException.class,
+                () -> Validators.validate(new VipCustomer(" ", 4)));
+
+        assertEquals(List.of(
+                new Violation("name", "name cannot be blank."),
+                new Violation("tier", "tier must be between 1 and 3.")), ex.getViolations());
+    }
+
+    @Test
+    void subclassesWithoutConstraintsUseTheSuperclassValidator() {
+        assertSame(Validators.find(Customer.class), Validators.find(Guest.class));
+
+        ValidationException ex = assertThrows(ValidationException.class, () -> Validators.validate(new Guest("")));
+
+        assertEquals(List.of(new Violation("name", "name cannot be blank.")), ex.getViolations());
+    }
+
+    @Test
+    void classesWithoutConstraintsHaveNoValidator() {
+        assertNull(Validators.find(String.class));
+        assertNull(Validators.find(GeneratedValidatorTest.class));
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.athomic.app.web;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FastEtagHeaderFilterTest {
+
+    @Test
+    void answersMatchingIfNoneMatchWithNotModified() throws Exception {
+        byte[] body = "{\"id\":1,\"name\":\"Ada\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletResponse first = get(body, null, null);
+
+        String eTag = first.getHeader(HttpHeaders.ETAG);
+        assertEquals(200, first.getStatus());
+        assertTrue(eTag.matches("W/\"[0-9a-f]{16}\""), eTag);
+        assertArrayEquals(body, first.getContentAsByteArray());
+
+        MockHttpServletResponse second = get(body, null, eTag);
+
+        assertEquals(304, second.getStatus());
+        assertEquals(eTag, second.getHeader(HttpHeaders.ETAG));
+        assertEquals(0, second.getContentAsByteArray().length);
+    }
+
+    @Test
+    void sendsChangedBodyWithNewETag() throws Exception {
+        String eTag = get("{\"id\":1,\"name\":\"Ada\"}".getBytes(StandardCharsets.UTF_8), null, null)
+                .getHeader(HttpHeaders.ETAG);
+        byte[] changed = "{\"id\":1,\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletResponse response = get(changed, null, eTag);
+
+        assertEquals(200, response.getStatus());
+        assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(changed, response.getContentAsByteArray());
+    }
+
+    @Test
+    void keepsHandlerDeclaredETag() throws Exception {
+        String eTag = ETags.of(42L, 7);
+        byte[] body = "{\"id\":42}".getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletResponse response = get(body, eTag, null);
+        assertEquals(200, response.getStatus());
+        assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+
+        MockHttpServletResponse notModified = get(body, eTag, eTag);
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getContentAsByteArray().length);
+    }
+
+    @Test
+    void hashesTailBytesShorterThanOneWord() throws Exception {
+        FastEtagHeaderFilter filter = new FastEtagHeaderFilter();
+
+        // Bodies shorter than eight bytes, and bodies that only differ in a trailing partial word or a zero byte
+        String abc = eTag(filter, "abc".getBytes(StandardCharsets.US_ASCII));
+        assertNotEquals(abc, eTag(filter, "abd".getBytes(StandardCharsets.US_ASCII)));
+        assertNotEquals(eTag(filter, new byte[]{'a'}), eTag(filter, new byte[]{'a', 0}));
+        assertNotEquals(eTag(filter, "12345678x".getBytes(StandardCharsets.US_ASCII)),
+                eTag(filter, "12345678y".getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(abc, eTag(filter, "abc".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void hashDoesNotDependOnReadBufferBoundaries() throws Exception {
+        byte[] body = new byte[8192 * 2 + 5];
+        Arrays.fill(body, (byte) 'x');
+        body[body.length - 1] = 'y';
+        ETags.Hasher hasher = new ETags.Hasher();
+        hasher.update(body, body.length);
+
+        assertEquals(ETags.format(hasher.finish(), true), eTag(new FastEtagHeaderFilter(), body));
+    }
+
+    @Test
+    void declaredETagsDependOnPartBoundaries() {
+        assertEquals(ETags.of(1, 2), ETags.of(1, 2));
+        assertNotEquals(ETags.of(1, 2), ETags.of("1", "", "2"));
+        assertNotEquals(ETags.of("12"), ETags.of(1, 2));
+    }
+
+    private static String eTag(FastEtagHeaderFilter filter, byte[] body) throws IOException {
+        return filter.generateETagHeaderValue(new ByteArrayInputStream(body), true);
+    }
+
+    private static MockHttpServletResponse get(byte[] body, String declaredETag, String ifNoneMatch)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/customers/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                // Handlers declaring their own ETag are not buffered and answer 304 themselves
+                if (declaredETag != null && new ServletWebRequest(req, resp).checkNotModified(declaredETag)) {
+                    return;
+                }
+                resp.setContentType("application/json");
+                resp.getOutputStream().write(body);
+            }
+        };
+        FastEtagHeaderFilter filter = new FastEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+}
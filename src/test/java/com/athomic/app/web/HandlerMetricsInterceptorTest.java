@@ -0,0 +1,104 @@
+package com.athomic.app.web;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandlerMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HandlerMetricsInterceptor interceptor = new HandlerMetricsInterceptor(registry);
+
+    @Test
+    void preRegistersTimersPerHandlerAndOutcome() throws Exception {
+        interceptor.registerHandlers(Map.of(
+                RequestMappingInfo.paths("/items/{id}").methods(RequestMethod.GET).build(), handler("get")));
+
+        assertEquals(5, registry.find(HandlerMetricsInterceptor.METER_NAME)
+                .tags("uri", "/items/{id}", "method", "GET", "handler", "ItemController#get").timers().size());
+    }
+
+    @Test
+    void recordsLatencyByOutcome() throws Exception {
+        HandlerMethod handler = handler("get");
+        interceptor.registerHandlers(Map.of(
+                RequestMappingInfo.paths("/items/{id}").methods(RequestMethod.GET).build(), handler));
+
+        handle(handler, 200, null);
+        handle(handler, 404, null);
+        handle(handler, 200, new IllegalStateException());
+
+        assertEquals(1, timer("/items/{id}", "SUCCESSFUL").count());
+        assertEquals(1, timer("/items/{id}", "CLIENT_ERROR").count());
+        assertEquals(1, timer("/items/{id}", "SERVER_ERROR").count());
+    }
+
+    @Test
+    void timesAsyncRequestsFromTheInitialDispatch() throws Exception {
+        HandlerMethod handler = handler("get");
+        interceptor.registerHandlers(Map.of(
+                RequestMappingInfo.paths("/items/{id}").methods(RequestMethod.GET).build(), handler));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        Thread.sleep(20);
+        // The initial dispatch ends with afterConcurrentHandlingStarted, the async dispatch completes the request
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        Thread asyncThread = new Thread(() -> {
+            interceptor.preHandle(request, response, handler);
+            interceptor.afterCompletion(request, response, handler, null);
+        });
+        asyncThread.start();
+        asyncThread.join();
+
+        Timer timer = timer("/items/{id}", "SUCCESSFUL");
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 20);
+    }
+
+    @Test
+    void sharesUnknownTimersForOtherHandlers() {
+        handle(new Object(), 404, null);
+
+        assertEquals(1, registry.get(HandlerMetricsInterceptor.METER_NAME)
+                .tags("uri", "UNKNOWN", "handler", "none", "outcome", "CLIENT_ERROR").timer().count());
+    }
+
+    private void handle(Object handler, int status, Exception ex) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, handler, ex);
+    }
+
+    private Timer timer(String uri, String outcome) {
+        return registry.get(HandlerMetricsInterceptor.METER_NAME).tags("uri", uri, "outcome", outcome).timer();
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new ItemController(), ItemController.class.getMethod(name, long.class));
+    }
+
+    static class ItemController {
+
+        public String get(long id) {
+            return "item-" + id;
+        }
+    }
+
+}
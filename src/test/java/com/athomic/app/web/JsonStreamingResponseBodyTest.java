@@ -0,0 +1,53 @@
+package com.athomic.app.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonStreamingResponseBodyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void writesNewlineDelimitedJson() throws IOException {
+        String body = write(JsonStreamingResponseBody.ndjson(objectMapper, List.of(Map.of("id", 1), Map.of("id", 2))).flushEvery(1));
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", body);
+    }
+
+    @Test
+    void writesJsonArray() throws IOException {
+        String body = write(JsonStreamingResponseBody.array(objectMapper, Stream.of(1, 2, 3)));
+
+        assertEquals("[1,2,3]", body);
+    }
+
+    @Test
+    void writesEmptyArrayForNullCollection() throws IOException {
+        assertEquals("[]", write(JsonStreamingResponseBody.array(objectMapper, (List<Integer>) null)));
+    }
+
+    @Test
+    void closesSourceStream() throws IOException {
+        boolean[] closed = {false};
+        write(JsonStreamingResponseBody.ndjson(objectMapper, Stream.of("a").onClose(() -> closed[0] = true)));
+
+        assertTrue(closed[0]);
+    }
+
+    private static String write(JsonStreamingResponseBody<?> body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+}
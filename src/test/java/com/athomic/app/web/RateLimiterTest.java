@@ -0,0 +1,139 @@
+package com.athomic.app.web;
+
+import com.athomic.app.exception.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void allowsBurstThenRefillsAtRate() {
+        RateLimiter limiter = new RateLimiter(10, 5, 100, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("a"), "request " + i);
+        }
+        assertEquals(SECOND / 10, limiter.tryAcquire("a"));
+
+        clock.addAndGet(SECOND / 10);
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+
+        clock.addAndGet(10 * SECOND);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("a"), "request " + i + " after refill");
+        }
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    void limitsClientsIndependently() {
+        RateLimiter limiter = new RateLimiter(1, 1, 100, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void boundsTrackedClientsAndEvictsIdleBuckets() {
+        RateLimiter limiter = new RateLimiter(1, 1, 2, clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("b"));
+        // The table is full of active clients: new clients share the overflow bucket.
+        assertEquals(0, limiter.tryAcquire("c"));
+        assertTrue(limiter.tryAcquire("d") > 0);
+        assertEquals(2, limiter.size());
+
+        // Once "a" and "b" are refilled they are evicted to make room.
+        clock.addAndGet(2 * SECOND);
+        assertEquals(0, limiter.tryAcquire("d"));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void interceptorRejectsWithRetryAfter() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new RateLimiter(0.5, 1, 100, clock::get),
+                ClientKeyResolver.remoteAddress());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(request, response, new Object()));
+        assertEquals(2, ex.getRetryAfterSeconds());
+
+        MockHttpServletRequest otherClient = new MockHttpServletRequest();
+        otherClient.setRemoteAddr("10.0.0.2");
+        assertTrue(interceptor.preHandle(otherClient, response, new Object()));
+    }
+
+    @Test
+    void interceptorSkipsAsyncDispatch() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new RateLimiter(0.5, 1, 100, clock::get),
+                ClientKeyResolver.remoteAddress());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        // The async dispatch completing the same request must not take a second token
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+
+        request.setDispatcherType(DispatcherType.REQUEST);
+        assertThrows(TooManyRequestsException.class, () -> interceptor.preHandle(request, response, new Object()));
+    }
+
+    @Test
+    void keysByValidApiKeyOrPrefixedRemoteAddress() {
+        ClientKeyResolver resolver = ClientKeyResolver.apiKeyOrRemoteAddress("X-API-Key", "key-1"::equals);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+
+        assertEquals("ip:10.0.0.1", resolver.resolve(request));
+        assertEquals("ip:10.0.0.1", ClientKeyResolver.remoteAddress().resolve(request));
+
+        request.addHeader("X-API-Key", "key-1");
+        assertEquals("key:key-1", resolver.resolve(request));
+
+        // An API key that looks like an address does not share that address's bucket
+        MockHttpServletRequest addressLike = new MockHttpServletRequest();
+        addressLike.addHeader("X-API-Key", "10.0.0.1");
+        assertEquals("key:10.0.0.1",
+                ClientKeyResolver.apiKeyOrRemoteAddress("X-API-Key", key -> true).resolve(addressLike));
+    }
+
+    @Test
+    void unknownApiKeysCannotBypassTheLimit() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(new RateLimiter(0.5, 1, 100, clock::get),
+                ClientKeyResolver.apiKeyOrRemoteAddress("X-API-Key", "key-1"::equals));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(forged("forged-1"), response, new Object()));
+        assertThrows(TooManyRequestsException.class,
+                () -> interceptor.preHandle(forged("forged-2"), response, new Object()));
+    }
+
+    private static MockHttpServletRequest forged(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.athomic.jpatest;
+
+import com.athomic.app.persistence.BatchWriter;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=4",
+        "app.jpa.batch.chunk-size=8"
+})
+@Import(BatchWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchWriterTest {
+
+    @Autowired
+    private BatchWriter batchWriter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from item");
+    }
+
+    @Test
+    void writesOneTransactionPerChunkAndFlushesEveryJdbcBatch() {
+        batchWriter.persistAll(items(24));
+
+        assertEquals(24, count());
+        // 3 chunks of 8, each flushed and cleared after 4 and 8 entities; the final flush of a chunk has nothing left
+        assertEquals(3, statistics.getSuccessfulTransactionCount());
+        assertEquals(6, statistics.getFlushCount());
+        assertEquals(24, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void rollsBackOnlyTheFailingChunk() {
+        List<Item> items = items(24);
+        items.set(8, new Item(null, 0));
+
+        assertThrows(PersistenceException.class, () -> batchWriter.persistAll(items));
+
+        // The first chunk stays committed, the failing one is rolled back and the last one never runs
+        assertEquals(8, count());
+    }
+
+    @Test
+    void commitsChunksIndependentlyOfTheCallersTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            batchWriter.persistAll(items(10));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(10, count());
+    }
+
+    @Test
+    void writesChunksInParallel() {
+        batchWriter.persistAll(items(40), 3);
+
+        assertEquals(40, count());
+        assertEquals(5, statistics.getSuccessfulTransactionCount());
+    }
+
+    @Test
+    void mergesDetachedEntities() {
+        batchWriter.mergeAll(items(12));
+
+        assertEquals(12, count());
+        assertEquals(2, statistics.getSuccessfulTransactionCount());
+    }
+
+    private long count() {
+        return jdbc.queryForObject("select count(*) from item", Long.class);
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("item-" + i, i % 3));
+        }
+        return items;
+    }
+
+}
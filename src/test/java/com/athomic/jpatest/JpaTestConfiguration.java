@@ -0,0 +1,18 @@
+package com.athomic.jpatest;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+
+/**
+ * Configuration found by the H2-backed persistence slice tests of this package.
+ * <p>
+ * It lives outside {@code com.athomic.app} so that {@link Item} is not picked up by the
+ * application context, which validates its schema against the configured database.
+ * </p>
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = Item.class)
+class JpaTestConfiguration {
+}
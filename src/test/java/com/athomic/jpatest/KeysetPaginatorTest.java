@@ -0,0 +1,141 @@
+package com.athomic.jpatest;
+
+import com.athomic.app.dto.response.CursorPage;
+import com.athomic.app.exception.InvalidCursorException;
+import com.athomic.app.persistence.BatchWriter;
+import com.athomic.app.persistence.Keyset;
+import com.athomic.app.persistence.KeysetPaginator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({KeysetPaginator.class, BatchWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class KeysetPaginatorTest {
+
+    @Autowired
+    private KeysetPaginator paginator;
+
+    @Autowired
+    private BatchWriter batchWriter;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        List<Item> created = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            created.add(new Item("item-" + i, i % 4));
+        }
+        batchWriter.persistAll(created);
+        items = created;
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("delete from item");
+    }
+
+    @Test
+    void pagesThroughEveryRowOnce() {
+        Keyset keyset = Keyset.ascending("id");
+
+        List<List<Long>> pages = pages(keyset, 10, null, Map.of());
+
+        assertEquals(List.of(10, 10, 5), pages.stream().map(List::size).toList());
+        assertEquals(ids(items.stream().sorted(Comparator.comparing(Item::getId)).toList()), flatten(pages));
+    }
+
+    @Test
+    void lastFullPageHasNoNextCursor() {
+        CursorPage<Item> first = paginator.page(Item.class, Keyset.ascending("id"), null, 25);
+
+        assertEquals(25, first.getItems().size());
+        assertNull(first.getNextCursor());
+        assertFalse(first.hasNext());
+    }
+
+    @Test
+    void pagesMixedDirections() {
+        Keyset keyset = Keyset.of(Keyset.Column.desc("priority"), Keyset.Column.asc("id"));
+
+        List<List<Long>> pages = pages(keyset, 4, null, Map.of());
+
+        List<Item> expected = items.stream()
+                .sorted(Comparator.comparingInt(Item::getPriority).reversed().thenComparing(Item::getId))
+                .toList();
+        assertEquals(7, pages.size());
+        assertEquals(ids(expected), flatten(pages));
+    }
+
+    @Test
+    void pagesFilteredRows() {
+        Keyset keyset = Keyset.descending("name", "id");
+
+        List<List<Long>> pages = pages(keyset, 3, "e.priority = :priority", Map.of("priority", 1));
+
+        List<Item> expected = items.stream()
+                .filter(item -> item.getPriority() == 1)
+                .sorted(Comparator.comparing(Item::getName).thenComparing(Item::getId).reversed())
+                .toList();
+        assertEquals(List.of(3, 3), pages.stream().map(List::size).toList());
+        assertEquals(ids(expected), flatten(pages));
+    }
+
+    @Test
+    void rejectsCursorsCarryingValuesOfAnotherType() {
+        Keyset byId = Keyset.ascending("id");
+        Keyset byPriority = Keyset.of(Keyset.Column.desc("priority"), Keyset.Column.asc("id"));
+
+        assertThrows(InvalidCursorException.class,
+                () -> paginator.page(Item.class, byId, byId.encode("not-an-id"), 10));
+        assertThrows(InvalidCursorException.class,
+                () -> paginator.page(Item.class, byId, byId.encode(3), 10));
+        assertThrows(InvalidCursorException.class,
+                () -> paginator.page(Item.class, byPriority, byPriority.encode(2L, 3L), 10));
+    }
+
+    private List<List<Long>> pages(Keyset keyset, int size, String filter, Map<String, ?> parameters) {
+        List<List<Long>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Item> page = paginator.page(Item.class, keyset, cursor, size, filter, parameters);
+            pages.add(ids(page.getItems()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<Long> flatten(List<List<Long>> pages) {
+        return pages.stream().flatMap(List::stream).toList();
+    }
+
+    private static List<Long> ids(List<Item> items) {
+        return items.stream().map(Item::getId).toList();
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.athomic.jpatest;
+
+import com.athomic.app.persistence.BatchWriter;
+import com.athomic.app.persistence.QueryStreamer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.jpa.stream.fetch-size=2",
+        "app.jpa.stream.clear-interval=3"
+})
+@Import({QueryStreamer.class, BatchWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryStreamerTest {
+
+    private static final String ALL_ITEMS = "select i from Item i order by i.id";
+
+    @Autowired
+    private QueryStreamer queryStreamer;
+
+    @Autowired
+    private BatchWriter batchWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(new Item("item-" + i, i % 3));
+        }
+        batchWriter.persistAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("delete from item");
+    }
+
+    @Test
+    void streamsEveryResultWithParameters() {
+        List<String> names = transactionTemplate.execute(status -> {
+            try (Stream<Item> items = queryStreamer.stream("select i from Item i where i.priority = :priority "
+                    + "order by i.id", Item.class, Map.of("priority", 0))) {
+                return items.map(Item::getName).toList();
+            }
+        });
+
+        assertEquals(List.of("item-0", "item-3", "item-6", "item-9"), names);
+    }
+
+    @Test
+    void clearsThePersistenceContextEveryClearInterval() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Item> stream = queryStreamer.stream(ALL_ITEMS, Item.class)) {
+                Iterator<Item> items = stream.iterator();
+                Item first = items.next();
+                Item second = items.next();
+                Item third = items.next();
+                assertTrue(entityManager.contains(first));
+                assertTrue(entityManager.contains(third));
+
+                Item fourth = items.next();
+
+                assertFalse(entityManager.contains(first));
+                assertFalse(entityManager.contains(second));
+                assertFalse(entityManager.contains(third));
+                assertTrue(entityManager.contains(fourth));
+            }
+        });
+    }
+
+    @Test
+    void closesTheCursorWhenTheStreamIsClosed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Stream<Item> stream = queryStreamer.stream(ALL_ITEMS, Item.class);
+            stream.iterator().next();
+            assertTrue(hasOpenResources());
+
+            stream.close();
+
+            assertFalse(hasOpenResources());
+        });
+    }
+
+    @Test
+    void closesTheCursorWhenTheTransactionCompletes() {
+        Iterator<Item> items = transactionTemplate.execute(status -> {
+            Iterator<Item> iterator = queryStreamer.stream(ALL_ITEMS, Item.class).iterator();
+            iterator.next();
+            return iterator;
+        });
+
+        // A cursor left open would be read through the closed session
+        assertFalse(items.hasNext());
+    }
+
+    @Test
+    void rejectsStreamsOutsideATransaction() {
+        assertThrows(IllegalStateException.class, () -> queryStreamer.stream(ALL_ITEMS, Item.class));
+    }
+
+    private boolean hasOpenResources() {
+        return entityManager.unwrap(SessionImplementor.class).getJdbcCoordinator().getLogicalConnection()
+                .getResourceRegistry().hasRegisteredResources();
+    }
+
+}